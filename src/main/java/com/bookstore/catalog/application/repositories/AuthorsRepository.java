@@ -1,11 +1,47 @@
 package com.bookstore.catalog.application.repositories;
 
 import com.bookstore.catalog.domain.entities.author.Author;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AuthorsRepository extends JpaRepository<Author, UUID> {
+    Slice<Author> findAllBy(Pageable pageable);
+
+    @Query("SELECT a.version FROM author a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT a FROM author a ORDER BY a.name, a.id")
+    List<Author> findKeysetFirst(Limit limit);
+
+    /**
+     * Rows after the given name and id. The row value comparison lets the database seek the {@code (name, id)}
+     * index and read it in order up to the limit.
+     */
+    @Query("SELECT a FROM author a WHERE (a.name, a.id) > (:name, :id) ORDER BY a.name, a.id")
+    List<Author> findKeysetAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT a.id FROM author a WHERE a.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Deletes without loading the author and their books first, the database cascades to the books and their
+     * genre links. Returns the number of deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM author a WHERE a.id = :id")
+    int deleteDirectlyById(@Param("id") UUID id);
 }
@@ -1,13 +1,60 @@
 package com.bookstore.catalog.application.repositories.books;
 
+import com.bookstore.catalog.domain.dtos.books.BookVersion;
 import com.bookstore.catalog.domain.entities.books.Book;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BooksRepository extends JpaRepository<Book, UUID> {
     Optional<Book> findByIsbn(String isbn);
+
+    @Query("SELECT b.isbn FROM book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Loads the book together with its author and genres, everything the update response reads.
+     */
+    @EntityGraph(attributePaths = {"author", "bookGenres", "bookGenres.genre"})
+    @Query("SELECT b FROM book b WHERE b.id = :id")
+    Optional<Book> findWithAuthorAndGenresById(@Param("id") UUID id);
+
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.books.BookVersion(b.id, b.version, a.version, COUNT(g), COALESCE(SUM(g.version), 0L)) " +
+            "FROM book b JOIN b.author a LEFT JOIN book_genre bg ON bg.bookId = b.id LEFT JOIN bg.genre g " +
+            "WHERE b.id = :id GROUP BY b.id, b.version, a.version")
+    Optional<BookVersion> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.books.BookVersion(b.id, b.version, a.version, COUNT(g), COALESCE(SUM(g.version), 0L)) " +
+            "FROM book b JOIN b.author a LEFT JOIN book_genre bg ON bg.bookId = b.id LEFT JOIN bg.genre g " +
+            "WHERE b.isbn = :isbn GROUP BY b.id, b.version, a.version")
+    Optional<BookVersion> findVersionByIsbn(@Param("isbn") String isbn);
+
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.books.BookVersion(b.id, b.version, a.version, COUNT(g), COALESCE(SUM(g.version), 0L)) " +
+            "FROM book b JOIN b.author a LEFT JOIN book_genre bg ON bg.bookId = b.id LEFT JOIN bg.genre g " +
+            "WHERE b.id IN :ids GROUP BY b.id, b.version, a.version")
+    List<BookVersion> findVersionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.books.BookVersion(b.id, b.version, a.version, COUNT(g), COALESCE(SUM(g.version), 0L)) " +
+            "FROM book b JOIN b.author a LEFT JOIN book_genre bg ON bg.bookId = b.id LEFT JOIN bg.genre g " +
+            "WHERE b.isbn IN :isbns GROUP BY b.id, b.version, a.version")
+    List<BookVersion> findVersionsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Deletes without loading the book first, the database cascades to its genre links. Returns the number of
+     * deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM book b WHERE b.id = :id")
+    int deleteDirectlyById(@Param("id") UUID id);
 }
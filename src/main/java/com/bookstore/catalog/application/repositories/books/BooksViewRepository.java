@@ -2,14 +2,23 @@ package com.bookstore.catalog.application.repositories.books;
 
 import com.bookstore.catalog.application.repositories.ReadOnlyRepository;
 import com.bookstore.catalog.domain.entities.books.BookView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BooksViewRepository extends ReadOnlyRepository<BookView, UUID> {
@@ -19,5 +28,47 @@ public interface BooksViewRepository extends ReadOnlyRepository<BookView, UUID>
     )
     Page<BookView> search(@Param("query") String query, Pageable pageable);
 
+    @Query("SELECT b FROM book_view b WHERE b.name LIKE %:query%")
+    Slice<BookView> searchSlice(@Param("query") String query, Pageable pageable);
+
+    @Query(
+            nativeQuery = true,
+            value = "SELECT v.* FROM books.books_read v " +
+                    "CROSS JOIN to_tsquery('simple', :query) q " +
+                    "WHERE v.search_vector @@ q " +
+                    "ORDER BY ts_rank(v.search_vector, q) DESC, v.name",
+            countQuery = "SELECT COUNT(*) FROM books.books_read v WHERE v.search_vector @@ to_tsquery('simple', :query)"
+    )
+    Page<BookView> fullTextSearch(@Param("query") String tsQuery, Pageable pageable);
+
+    @Query(
+            nativeQuery = true,
+            value = "SELECT v.* FROM books.books_read v " +
+                    "CROSS JOIN to_tsquery('simple', :query) q " +
+                    "WHERE v.search_vector @@ q " +
+                    "ORDER BY ts_rank(v.search_vector, q) DESC, v.name"
+    )
+    Slice<BookView> fullTextSearchSlice(@Param("query") String tsQuery, Pageable pageable);
+
     Optional<BookView> findByIsbn(String isbn);
+
+    List<BookView> findByIdIn(Collection<UUID> ids);
+
+    List<BookView> findByIsbnIn(Collection<String> isbns);
+
+    Slice<BookView> findAllBy(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM book_view b WHERE b.updatedAt >= :since ORDER BY b.id")
+    Stream<BookView> streamUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT b FROM book_view b ORDER BY b.name, b.id")
+    List<BookView> findKeysetFirst(Limit limit);
+
+    // Seeks idx_books_read_name_id like the author and genre keyset queries
+    @Query("SELECT b FROM book_view b WHERE (b.name, b.id) > (:name, :id) ORDER BY b.name, b.id")
+    List<BookView> findKeysetAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
 }
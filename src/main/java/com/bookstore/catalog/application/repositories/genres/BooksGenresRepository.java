@@ -1,8 +1,13 @@
 package com.bookstore.catalog.application.repositories.genres;
 
+import com.bookstore.catalog.domain.dtos.genre.BookGenreLink;
 import com.bookstore.catalog.domain.entities.genres.BookGenre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +15,26 @@ import java.util.UUID;
 
 @Repository
 public interface BooksGenresRepository extends JpaRepository<BookGenre, UUID> {
-    List<BookGenre> findByBookId(UUID bookId);
-
     Optional<BookGenre> findByBookIdAndGenreId(UUID bookId, UUID genreId);
+
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.genre.BookGenreLink(bg.bookId, bg.genreId) FROM book_genre bg")
+    List<BookGenreLink> findAllLinks();
+
+    @Query("SELECT bg.genreId FROM book_genre bg WHERE bg.bookId = :bookId")
+    List<UUID> findGenreIdsByBookId(@Param("bookId") UUID bookId);
+
+    /**
+     * Links the genre to the book in a single statement. Returns 0 when the book or the genre does not exist or when
+     * the pair is already linked, so callers only need to look further on that path.
+     */
+    default int attach(UUID bookId, UUID genreId) {
+        return insertIfAbsent(UUID.randomUUID(), bookId, genreId);
+    }
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO books.books_genre (id, book_id, genre_id) " +
+            "SELECT :id, b.id, g.id FROM books.books b, books.genres g WHERE b.id = :bookId AND g.id = :genreId " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("bookId") UUID bookId, @Param("genreId") UUID genreId);
 }
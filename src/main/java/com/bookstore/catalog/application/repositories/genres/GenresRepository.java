@@ -1,11 +1,47 @@
 package com.bookstore.catalog.application.repositories.genres;
 
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
 import com.bookstore.catalog.domain.entities.genres.Genre;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface GenresRepository extends JpaRepository<Genre, UUID> {
+    Slice<Genre> findAllBy(Pageable pageable);
+
+    @Query("SELECT g.version FROM genre g WHERE g.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT g FROM genre g ORDER BY g.name, g.id")
+    List<Genre> findKeysetFirst(Limit limit);
+
+    @Query("SELECT g FROM genre g WHERE (g.name, g.id) > (:name, :id) ORDER BY g.name, g.id")
+    List<Genre> findKeysetAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Runs in a read-only transaction of its own, so the genre catalog can reload from callers that have none.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.bookstore.catalog.domain.dtos.genre.GenreEntry(g.id, g.name, g.version) FROM genre g")
+    List<GenreEntry> findAllEntries();
+
+    /**
+     * Deletes without loading the genre first, the database cascades to its book links. Returns the number of
+     * deleted rows.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM genre g WHERE g.id = :id")
+    int deleteDirectlyById(@Param("id") UUID id);
 }
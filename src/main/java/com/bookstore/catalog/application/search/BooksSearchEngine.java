@@ -0,0 +1,12 @@
+package com.bookstore.catalog.application.search;
+
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface BooksSearchEngine {
+    Page<BookResponse> search(String query, Pageable pageable);
+
+    Slice<BookResponse> searchSlice(String query, Pageable pageable);
+}
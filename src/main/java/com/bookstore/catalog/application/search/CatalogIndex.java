@@ -0,0 +1,21 @@
+package com.bookstore.catalog.application.search;
+
+import com.bookstore.catalog.domain.entities.books.BookView;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * In-memory structure kept in sync with the catalog tables by the write events.
+ */
+public interface CatalogIndex {
+    void load(Collection<BookView> books);
+
+    void put(BookView book);
+
+    void remove(UUID bookId);
+
+    void renameAuthor(UUID authorId, String name);
+
+    void removeAuthor(UUID authorId);
+}
@@ -1,31 +1,61 @@
 package com.bookstore.catalog.application.services;
 
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.dtos.books.BookLookupResponse;
 import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.dtos.books.BooksBatchRequest;
 import com.bookstore.catalog.domain.dtos.books.CreateBookRequest;
+import com.bookstore.catalog.domain.dtos.books.IsbnsBatchRequest;
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
 import com.bookstore.catalog.domain.dtos.books.UpdateBookRequest;
+import com.bookstore.catalog.domain.dtos.genre.BookGenresRequest;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface BooksService {
     ResponseEntity<CreateBookRequest> createBook(CreateBookRequest body);
 
-    ResponseEntity<BookDetailsResponse> getBook(UUID id);
+    ResponseEntity<BookImportResponse> importBooks(InputStream body);
 
-    ResponseEntity<BookDetailsResponse> getBookFromIsbn(String isbn);
+    ResponseEntity<BookDetailsResponse> getBook(UUID id, String ifNoneMatch);
+
+    ResponseEntity<BookDetailsResponse> getBookFromIsbn(String isbn, String ifNoneMatch);
+
+    ResponseEntity<List<BookLookupResponse>> getBooks(BooksBatchRequest body);
+
+    ResponseEntity<List<BookLookupResponse>> getBooksFromIsbns(IsbnsBatchRequest body);
 
     ResponseEntity<Void> deleteBook(UUID id);
 
     ResponseEntity<BookDetailsResponse> updateBook(UUID id, UpdateBookRequest body);
 
-    ResponseEntity<Page<BookResponse>> listAll(int pageIndex);
+    ResponseEntity<Slice<BookResponse>> listAll(int pageIndex, TotalMode total);
+
+    ResponseEntity<CursorPage<BookResponse>> listAfter(String cursor);
+
+    ResponseEntity<StreamingResponseBody> export(Instant updatedSince);
 
     ResponseEntity<Void> addBookGenre(UUID bookId, UUID genreId);
 
     ResponseEntity<Void> removeBookGenre(UUID bookId, UUID genreId);
 
-    ResponseEntity<Page<BookResponse>> search(String query, int pageIndex);
+    ResponseEntity<List<GenreResponse>> setBookGenres(UUID bookId, BookGenresRequest body);
+
+    ResponseEntity<Slice<BookResponse>> search(String query, int pageIndex, TotalMode total);
+
+    ResponseEntity<Page<BookResponse>> fuzzySearch(String query, int pageIndex);
+
+    ResponseEntity<List<SuggestionResponse>> suggest(String prefix, int limit);
 
 }
@@ -1,8 +1,10 @@
 package com.bookstore.catalog.application.services;
 
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.genre.GenreRequest;
 import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
 import java.util.UUID;
@@ -10,11 +12,13 @@ import java.util.UUID;
 public interface GenresService {
     ResponseEntity<GenreRequest> createGenre(GenreRequest body);
 
-    ResponseEntity<GenreResponse> getGenre(UUID id);
+    ResponseEntity<GenreResponse> getGenre(UUID id, String ifNoneMatch);
 
     ResponseEntity<Void> deleteGenre(UUID id);
 
     ResponseEntity<GenreResponse> updateGenre(UUID id, GenreRequest body);
 
-    ResponseEntity<Page<GenreResponse>> listAll(int pageIndex);
+    ResponseEntity<Slice<GenreResponse>> listAll(int pageIndex, TotalMode total, String ifNoneMatch);
+
+    ResponseEntity<CursorPage<GenreResponse>> listAfter(String cursor);
 }
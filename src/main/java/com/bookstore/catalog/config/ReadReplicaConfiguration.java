@@ -0,0 +1,72 @@
+package com.bookstore.catalog.config;
+
+import com.bookstore.catalog.infra.persistence.ReadWriteRoutingDataSource;
+import com.bookstore.catalog.infra.persistence.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces the data source of {@code spring.datasource} with one that sends read-only transactions to the
+ * replica of {@code catalog.datasource.replica}. Each database gets its own pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("catalog-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource replicaDataSource(
+            @Value("${catalog.datasource.replica.url}") String url,
+            @Value("${catalog.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${catalog.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${catalog.datasource.replica.pool-size:10}") int poolSize
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("catalog-replica");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${catalog.datasource.replica.lag-query:" + ReplicaLagMonitor.POSTGRES_LAG_QUERY + "}") String lagQuery,
+            @Value("${catalog.datasource.replica.max-lag:PT5S}") Duration maxLag
+    ) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor));
+    }
+
+}
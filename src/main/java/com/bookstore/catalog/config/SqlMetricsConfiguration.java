@@ -0,0 +1,28 @@
+package com.bookstore.catalog.config;
+
+import com.bookstore.catalog.infra.metrics.CountingDataSourcePostProcessor;
+import com.bookstore.catalog.infra.metrics.SqlMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfiguration {
+
+    @Bean
+    public static CountingDataSourcePostProcessor countingDataSourcePostProcessor() {
+        return new CountingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public SqlMetricsInterceptor sqlMetricsInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.sql-metrics.statement-budget:25}") int statementBudget
+    ) {
+        return new SqlMetricsInterceptor(meterRegistry, statementBudget);
+    }
+
+}
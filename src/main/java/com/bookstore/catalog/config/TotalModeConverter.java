@@ -0,0 +1,27 @@
+package com.bookstore.catalog.config;
+
+import com.bookstore.catalog.domain.dtos.TotalMode;
+import com.bookstore.catalog.domain.exceptions.BadRequestException;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Binds the {@code total} query parameter case-insensitively, so {@code ?total=none} works as documented.
+ */
+@Component
+public class TotalModeConverter implements Converter<String, TotalMode> {
+
+    @Override
+    public TotalMode convert(String source) {
+        try {
+            return TotalMode.valueOf(source.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            String accepted = Arrays.toString(TotalMode.values()).toLowerCase(Locale.ROOT);
+            throw new BadRequestException("Invalid total mode, expected one of " + accepted, source);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.bookstore.catalog.config;
+
+import com.bookstore.catalog.infra.http.PreSerializedJsonConverter;
+import com.bookstore.catalog.infra.http.SerializedResponseCache;
+import com.bookstore.catalog.infra.metrics.SqlMetricsInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<SerializedResponseCache> serializedResponses;
+    private final ObjectProvider<SqlMetricsInterceptor> sqlMetricsInterceptor;
+
+    @Autowired
+    public WebConfiguration(
+            ObjectProvider<SerializedResponseCache> serializedResponses,
+            ObjectProvider<SqlMetricsInterceptor> sqlMetricsInterceptor
+    ) {
+        this.serializedResponses = serializedResponses;
+        this.sqlMetricsInterceptor = sqlMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        sqlMetricsInterceptor.ifAvailable(registry::addInterceptor);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        SerializedResponseCache cache = serializedResponses.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new PreSerializedJsonConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), cache)
+                : converter);
+    }
+
+}
@@ -5,7 +5,9 @@ import com.bookstore.catalog.domain.dtos.author.CreateAuthorRequest;
 import com.bookstore.catalog.domain.dtos.author.UpdateAuthorRequest;
 import com.bookstore.catalog.domain.dtos.author.AuthorDetailsResponse;
 import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
+import com.bookstore.catalog.domain.dtos.CursorPage;
 import com.bookstore.catalog.domain.dtos.ErrorResponse;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -15,6 +17,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -44,17 +48,22 @@ public class AuthorsController {
 
     @Operation(operationId = "findAuthorById", summary = "Find author by ID", tags = {"Authors"},
             parameters = {
-                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Author ID")
+                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Author ID"),
+                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match", description = "ETag of a previous response")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = AuthorDetailsResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Author not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @GetMapping("{id}")
-    public ResponseEntity<AuthorDetailsResponse> getAuthor(@PathVariable("id") UUID id) {
-        return authorsService.getAuthor(id);
+    public ResponseEntity<AuthorDetailsResponse> getAuthor(
+            @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return authorsService.getAuthor(id, ifNoneMatch);
     }
 
     @Operation(operationId = "deleteAuthorById", summary = "Delete author by ID", tags = {"Authors"},
@@ -93,7 +102,8 @@ public class AuthorsController {
 
     @Operation(operationId = "listAuthors", summary = "List authors", tags = {"Authors"},
             parameters = {
-                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index")
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index"),
+                    @Parameter(in = ParameterIn.QUERY, name = "total", description = "exact (default) counts the rows, approximate uses cached counts, none skips the total")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Page.class))),
@@ -101,8 +111,26 @@ public class AuthorsController {
             }
     )
     @GetMapping("list")
-    public ResponseEntity<Page<AuthorResponse>> listAuthors(@RequestParam(name = "page", defaultValue = "0") int pageIndex) {
-        return authorsService.listAll(pageIndex);
+    public ResponseEntity<Slice<AuthorResponse>> listAuthors(
+            @RequestParam(name = "page", defaultValue = "0") int pageIndex,
+            @RequestParam(name = "total", defaultValue = "exact") TotalMode total
+    ) {
+        return authorsService.listAll(pageIndex, total);
+    }
+
+    @Operation(operationId = "listAuthorsByCursor", summary = "List authors ordered by name using a cursor", tags = {"Authors"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor returned by the previous page, empty for the first page")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping(value = "list", params = "cursor")
+    public ResponseEntity<CursorPage<AuthorResponse>> listAuthorsAfter(@RequestParam("cursor") String cursor) {
+        return authorsService.listAfter(cursor);
     }
 
 }
@@ -1,23 +1,40 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.application.services.BooksService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
 import com.bookstore.catalog.domain.dtos.ErrorResponse;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.dtos.books.BookLookupResponse;
 import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.dtos.books.BooksBatchRequest;
 import com.bookstore.catalog.domain.dtos.books.CreateBookRequest;
+import com.bookstore.catalog.domain.dtos.books.IsbnsBatchRequest;
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
 import com.bookstore.catalog.domain.dtos.books.UpdateBookRequest;
+import com.bookstore.catalog.domain.dtos.genre.BookGenresRequest;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -44,33 +61,78 @@ public class BooksController {
         return booksService.createBook(body);
     }
 
+    @Operation(operationId = "importBooks", summary = "Import books", tags = {"Books"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import report", content = @Content(schema = @Schema(implementation = BookImportResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BookImportResponse> importBooks(InputStream body) {
+        return booksService.importBooks(body);
+    }
+
+    @Operation(operationId = "findBooksByIds", summary = "Find books by a list of IDs", tags = {"Books"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "One result per requested ID, in request order", content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookLookupResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Bad request"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("batch")
+    public ResponseEntity<List<BookLookupResponse>> findBooksByIds(@Valid @RequestBody BooksBatchRequest body) {
+        return booksService.getBooks(body);
+    }
+
+    @Operation(operationId = "findBooksByIsbns", summary = "Find books by a list of ISBNs", tags = {"Books"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "One result per requested ISBN, in request order", content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookLookupResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Bad request"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("batch/isbn")
+    public ResponseEntity<List<BookLookupResponse>> findBooksByIsbns(@Valid @RequestBody IsbnsBatchRequest body) {
+        return booksService.getBooksFromIsbns(body);
+    }
+
     @Operation(operationId = "findBookById", summary = "Find book by ID", tags = {"Books"},
             parameters = {
-                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Book id")
+                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Book id"),
+                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match", description = "ETag of a previous response")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = BookDetailsResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Book not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             })
     @GetMapping("{id}")
-    public ResponseEntity<BookDetailsResponse> getBook(@PathVariable("id") UUID id) {
-        return booksService.getBook(id);
+    public ResponseEntity<BookDetailsResponse> getBook(
+            @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return booksService.getBook(id, ifNoneMatch);
     }
 
     @Operation(operationId = "findBookByIsbn", summary = "Find book by ISBN", tags = {"Books"},
             parameters = {
-                    @Parameter(in = ParameterIn.QUERY, name = "q", description = "Book ISBN")
+                    @Parameter(in = ParameterIn.QUERY, name = "q", description = "Book ISBN"),
+                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match", description = "ETag of a previous response")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = BookDetailsResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Book not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @GetMapping("find/isbn")
-    public ResponseEntity<BookDetailsResponse> getBookIsbn(@RequestParam("q") String isbn) {
-        return booksService.getBookFromIsbn(isbn);
+    public ResponseEntity<BookDetailsResponse> getBookIsbn(
+            @RequestParam("q") String isbn,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return booksService.getBookFromIsbn(isbn, ifNoneMatch);
     }
 
     @Operation(operationId = "deleteBookById", summary = "Delete book by ID", tags = {"Books"},
@@ -110,7 +172,8 @@ public class BooksController {
 
     @Operation(operationId = "listBooks", summary = "List books", tags = {"Books"},
             parameters = {
-                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index")
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index"),
+                    @Parameter(in = ParameterIn.QUERY, name = "total", description = "exact (default) counts the rows, approximate uses cached counts, none skips the total")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Page.class))),
@@ -118,8 +181,42 @@ public class BooksController {
             }
     )
     @GetMapping("list")
-    public ResponseEntity<Page<BookResponse>> listBooks(@RequestParam(name = "page", defaultValue = "0") int pageIndex) {
-        return booksService.listAll(pageIndex);
+    public ResponseEntity<Slice<BookResponse>> listBooks(
+            @RequestParam(name = "page", defaultValue = "0") int pageIndex,
+            @RequestParam(name = "total", defaultValue = "exact") TotalMode total
+    ) {
+        return booksService.listAll(pageIndex, total);
+    }
+
+    @Operation(operationId = "listBooksByCursor", summary = "List books ordered by name using a cursor", tags = {"Books"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor returned by the previous page, empty for the first page")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping(value = "list", params = "cursor")
+    public ResponseEntity<CursorPage<BookResponse>> listBooksAfter(@RequestParam("cursor") String cursor) {
+        return booksService.listAfter(cursor);
+    }
+
+    @Operation(operationId = "exportBooks", summary = "Stream the catalog as NDJSON, one book with its genres per line", tags = {"Books"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "updatedSince", description = "Only books updated at or after this ISO-8601 instant")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(mediaType = "application/x-ndjson")),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(name = "updatedSince", required = false) Instant updatedSince
+    ) {
+        return booksService.export(updatedSince);
     }
 
     @Operation(operationId = "addBookGenre", summary = "Add book genre", tags = {"Books"},
@@ -160,10 +257,30 @@ public class BooksController {
         return booksService.removeBookGenre(bookId, genreId);
     }
 
+    @Operation(operationId = "setBookGenres", summary = "Replace book genres", tags = {"Books"},
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "bookId", description = "Book ID")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Genres of the book", content = @Content(array = @ArraySchema(schema = @Schema(implementation = GenreResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Bad request"),
+                    @ApiResponse(responseCode = "404", description = "Book or Genre not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PutMapping("{bookId}/genres")
+    public ResponseEntity<List<GenreResponse>> setGenres(
+            @PathVariable("bookId") UUID bookId,
+            @Valid @RequestBody BookGenresRequest body
+    ) {
+        return booksService.setBookGenres(bookId, body);
+    }
+
     @Operation(operationId = "searchBooks", summary = "Search books", tags = {"Books"},
             parameters = {
                     @Parameter(in = ParameterIn.QUERY, name = "query", description = "Search query"),
-                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index")
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index"),
+                    @Parameter(in = ParameterIn.QUERY, name = "total", description = "exact (default) returns the number of matches, approximate and none skip it")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Page.class))),
@@ -171,11 +288,48 @@ public class BooksController {
             }
     )
     @GetMapping("search")
-    public ResponseEntity<Page<BookResponse>> search(
+    public ResponseEntity<Slice<BookResponse>> search(
+            @RequestParam("query") String query,
+            @RequestParam(value = "page", defaultValue = "0") int pageIndex,
+            @RequestParam(value = "total", defaultValue = "exact") TotalMode total
+    ) {
+        return booksService.search(query, pageIndex, total);
+    }
+
+    @Operation(operationId = "fuzzySearchBooks", summary = "Search books tolerating typos", tags = {"Books"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "query", description = "Search query"),
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("search/fuzzy")
+    public ResponseEntity<Page<BookResponse>> fuzzySearch(
             @RequestParam("query") String query,
             @RequestParam(value = "page", defaultValue = "0") int pageIndex
     ) {
-        return booksService.search(query, pageIndex);
+        return booksService.fuzzySearch(query, pageIndex);
+    }
+
+    @Operation(operationId = "suggestBooks", summary = "Suggest book titles and authors from a prefix", tags = {"Books"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "prefix", description = "Typed prefix"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Max suggestions, up to 10")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return booksService.suggest(prefix, limit);
     }
 
 }
@@ -1,10 +1,12 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.domain.dtos.ErrorResponse;
+import com.bookstore.catalog.domain.exceptions.BadRequestException;
 import com.bookstore.catalog.domain.exceptions.ConflictException;
 import com.bookstore.catalog.domain.exceptions.NotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -40,6 +43,26 @@ public class ExceptionHandlerController {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e, WebRequest request) {
+        var error = new ErrorResponse("Resource was modified concurrently, retry the request", request.getDescription(false), null, LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException e, WebRequest request) {
+        var error = new ErrorResponse(e.getMessage(), request.getDescription(false), e.getExtra(), LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException e, WebRequest request) {
+        var badRequest = e.getMostSpecificCause() instanceof BadRequestException cause
+                ? cause
+                : new BadRequestException("Invalid value for parameter " + e.getName(), String.valueOf(e.getValue()));
+        return handleBadRequestException(badRequest, request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationException(MethodArgumentNotValidException e) {
         Map<String, String> errors = new HashMap<>();
@@ -1,7 +1,9 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.application.services.GenresService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
 import com.bookstore.catalog.domain.dtos.ErrorResponse;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.genre.GenreRequest;
 import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +15,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -43,17 +47,22 @@ public class GenresController {
 
     @Operation(operationId = "findGenreById", summary = "Find genre by ID", tags = {"Genres"},
             parameters = {
-                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Genre ID")
+                    @Parameter(in = ParameterIn.PATH, name = "id", description = "Genre ID"),
+                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match", description = "ETag of a previous response")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = GenreRequest.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Genre not found", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @GetMapping("{id}")
-    public ResponseEntity<GenreResponse> getGenre(@PathVariable("id") UUID id) {
-        return genresService.getGenre(id);
+    public ResponseEntity<GenreResponse> getGenre(
+            @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return genresService.getGenre(id, ifNoneMatch);
     }
 
     @Operation(operationId = "deleteGenreById", summary = "Delete genre by ID", tags = "Genres",
@@ -92,16 +101,38 @@ public class GenresController {
 
     @Operation(operationId = "listGenres", summary = "List genres", tags = {"Genres"},
             parameters = {
-                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index")
+                    @Parameter(in = ParameterIn.QUERY, name = "page", description = "Page index"),
+                    @Parameter(in = ParameterIn.QUERY, name = "total", description = "exact (default) and approximate report the total, none skips it"),
+                    @Parameter(in = ParameterIn.HEADER, name = "If-None-Match", description = "ETag of a previous response")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
                     @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @GetMapping("list")
-    public ResponseEntity<Page<GenreResponse>> listGenres(@RequestParam(name = "page", defaultValue = "0") int pageIndex) {
-        return genresService.listAll(pageIndex);
+    public ResponseEntity<Slice<GenreResponse>> listGenres(
+            @RequestParam(name = "page", defaultValue = "0") int pageIndex,
+            @RequestParam(name = "total", defaultValue = "exact") TotalMode total,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return genresService.listAll(pageIndex, total, ifNoneMatch);
+    }
+
+    @Operation(operationId = "listGenresByCursor", summary = "List genres ordered by name using a cursor", tags = {"Genres"},
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Cursor returned by the previous page, empty for the first page")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = CursorPage.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping(value = "list", params = "cursor")
+    public ResponseEntity<CursorPage<GenreResponse>> listGenresAfter(@RequestParam("cursor") String cursor) {
+        return genresService.listAfter(cursor);
     }
 
 }
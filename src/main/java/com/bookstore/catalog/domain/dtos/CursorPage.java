@@ -0,0 +1,6 @@
+package com.bookstore.catalog.domain.dtos;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,25 @@
+package com.bookstore.catalog.domain.dtos;
+
+import com.bookstore.catalog.domain.dtos.books.SearchFacets;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Page that also carries the facet counts of the whole result set, serialized as an extra {@code facets} field.
+ */
+public class FacetedPage<T> extends PageImpl<T> {
+
+    private final SearchFacets facets;
+
+    public FacetedPage(List<T> content, Pageable pageable, long total, SearchFacets facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+
+    public SearchFacets getFacets() {
+        return facets;
+    }
+
+}
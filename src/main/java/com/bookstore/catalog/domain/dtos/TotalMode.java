@@ -0,0 +1,11 @@
+package com.bookstore.catalog.domain.dtos;
+
+/**
+ * How the total of a paginated response is computed. {@code EXACT} runs a {@code COUNT} query,
+ * {@code APPROXIMATE} uses the in-memory counters and {@code NONE} only tells whether a next page exists.
+ */
+public enum TotalMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
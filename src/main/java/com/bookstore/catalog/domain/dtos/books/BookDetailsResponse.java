@@ -5,10 +5,10 @@ import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import com.bookstore.catalog.domain.entities.books.Book;
 import com.bookstore.catalog.domain.entities.books.BookView;
 import com.bookstore.catalog.domain.entities.genres.BookGenre;
-import com.bookstore.catalog.domain.entities.genres.Genre;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,7 +24,7 @@ public record BookDetailsResponse(
         Set<GenreResponse> genres
 ) {
 
-    public static BookDetailsResponse fromBook(BookView book, Set<Genre> genres) {
+    public static BookDetailsResponse fromBook(BookView book) {
         return new BookDetailsResponse(
                 book.getId(),
                 book.getName(),
@@ -33,7 +33,7 @@ public record BookDetailsResponse(
                 book.getPrice(),
                 book.getPublishDate(),
                 new AuthorResponse(book.getAuthorId(), book.getAuthorName()),
-                genres.stream().map(GenreResponse::fromGenre).collect(Collectors.toSet()));
+                new LinkedHashSet<>(GenreResponse.fromBook(book)));
     }
 
     public static BookDetailsResponse fromBook(Book book) {
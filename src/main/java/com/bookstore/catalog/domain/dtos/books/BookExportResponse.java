@@ -0,0 +1,40 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record BookExportResponse(
+        UUID id,
+        String name,
+        String brief,
+        String photoKey,
+        String isbn,
+        BigDecimal price,
+        LocalDate publishDate,
+        AuthorResponse author,
+        List<GenreResponse> genres,
+        Instant updatedAt
+) {
+
+    public static BookExportResponse fromBook(BookView book) {
+        return new BookExportResponse(
+                book.getId(),
+                book.getName(),
+                book.getBrief(),
+                book.getPhotoKey(),
+                book.getIsbn(),
+                book.getPrice(),
+                book.getPublishDate(),
+                new AuthorResponse(book.getAuthorId(), book.getAuthorName()),
+                GenreResponse.fromBook(book),
+                book.getUpdatedAt());
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+public record BookImportError(long line, String message, String extra) {
+}
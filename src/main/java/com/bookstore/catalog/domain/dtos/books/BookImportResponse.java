@@ -0,0 +1,17 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds at most the configured number of entries, {@code failed}
+ * counts every rejected line.
+ */
+public record BookImportResponse(
+        long received,
+        long imported,
+        long failed,
+        long elapsedMillis,
+        long booksPerSecond,
+        List<BookImportError> errors
+) {
+}
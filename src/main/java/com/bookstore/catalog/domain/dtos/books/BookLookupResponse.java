@@ -0,0 +1,12 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+/**
+ * Result of one key of a batch lookup. Misses are kept in the response, with {@code found} false and no book.
+ */
+public record BookLookupResponse(String key, boolean found, BookDetailsResponse book) {
+
+    public static BookLookupResponse of(String key, BookDetailsResponse book) {
+        return new BookLookupResponse(key, book != null, book);
+    }
+
+}
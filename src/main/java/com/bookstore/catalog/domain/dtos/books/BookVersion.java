@@ -0,0 +1,10 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import java.util.UUID;
+
+/**
+ * Versions of everything a book details response is made of. Attaching or detaching a genre bumps the book
+ * version, the genre count and version sum cover genre renames and deletes.
+ */
+public record BookVersion(UUID id, Long bookVersion, Long authorVersion, Long genres, Long genresVersion) {
+}
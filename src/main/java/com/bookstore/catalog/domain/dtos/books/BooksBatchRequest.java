@@ -0,0 +1,14 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BooksBatchRequest(
+        @NotNull(message = "provide ids")
+        @Size(max = 500, message = "max size is 500 ids")
+        List<@NotNull UUID> ids
+) {
+}
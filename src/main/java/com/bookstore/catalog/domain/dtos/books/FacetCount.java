@@ -0,0 +1,4 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+public record FacetCount(String value, String label, long count) {
+}
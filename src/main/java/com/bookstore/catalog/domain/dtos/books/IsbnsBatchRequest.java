@@ -0,0 +1,14 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record IsbnsBatchRequest(
+        @NotNull(message = "provide isbns")
+        @Size(max = 500, message = "max size is 500 isbns")
+        List<@NotBlank String> isbns
+) {
+}
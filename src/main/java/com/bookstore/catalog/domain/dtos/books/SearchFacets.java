@@ -0,0 +1,16 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import java.util.List;
+
+public record SearchFacets(
+        List<FacetCount> genres,
+        List<FacetCount> authors,
+        List<FacetCount> prices,
+        List<FacetCount> years
+) {
+
+    public static SearchFacets empty() {
+        return new SearchFacets(List.of(), List.of(), List.of(), List.of());
+    }
+
+}
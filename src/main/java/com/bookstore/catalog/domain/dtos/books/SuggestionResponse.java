@@ -0,0 +1,6 @@
+package com.bookstore.catalog.domain.dtos.books;
+
+import java.util.UUID;
+
+public record SuggestionResponse(String text, String type, UUID id) {
+}
@@ -0,0 +1,6 @@
+package com.bookstore.catalog.domain.dtos.genre;
+
+import java.util.UUID;
+
+public record BookGenreLink(UUID bookId, UUID genreId) {
+}
@@ -0,0 +1,14 @@
+package com.bookstore.catalog.domain.dtos.genre;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record BookGenresRequest(
+        @NotNull(message = "provide genreIds")
+        @Size(max = 100, message = "max size is 100 genres")
+        Set<@NotNull UUID> genreIds
+) {
+}
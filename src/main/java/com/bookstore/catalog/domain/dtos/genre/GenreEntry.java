@@ -0,0 +1,11 @@
+package com.bookstore.catalog.domain.dtos.genre;
+
+import java.util.UUID;
+
+public record GenreEntry(UUID id, String name, Long version) {
+
+    public GenreResponse toResponse() {
+        return new GenreResponse(id, name);
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.bookstore.catalog.domain.dtos.genre;
 
+import com.bookstore.catalog.domain.entities.books.BookView;
 import com.bookstore.catalog.domain.entities.genres.Genre;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 public record GenreResponse(UUID id, String name) {
@@ -10,4 +13,18 @@ public record GenreResponse(UUID id, String name) {
         return new GenreResponse(genre.getId(), genre.getName());
     }
 
+    /**
+     * The genres of a read model row, in the order they are stored.
+     */
+    public static List<GenreResponse> fromBook(BookView book) {
+        UUID[] ids = book.getGenreIds();
+        String[] names = book.getGenreNames();
+
+        List<GenreResponse> genres = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            genres.add(new GenreResponse(ids[i], names[i]));
+        }
+        return genres;
+    }
+
 }
@@ -8,7 +8,7 @@ import java.util.Collection;
 import java.util.UUID;
 
 @Entity(name = "author")
-@Table(name = "authors", schema = "books")
+@Table(name = "authors", schema = "books", indexes = @Index(name = "idx_authors_name_id", columnList = "name, id"))
 public class Author implements Serializable {
 
     @Id
@@ -21,6 +21,10 @@ public class Author implements Serializable {
     @Column(length = 4096)
     private String biography;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "author")
     private Collection<Book> books;
 
@@ -42,6 +46,10 @@ public class Author implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
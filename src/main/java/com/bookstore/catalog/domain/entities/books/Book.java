@@ -3,17 +3,35 @@ package com.bookstore.catalog.domain.entities.books;
 import com.bookstore.catalog.domain.entities.author.Author;
 import com.bookstore.catalog.domain.entities.genres.BookGenre;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.UUID;
 
 @Entity(name = "book")
-@Table(name = "books", schema = "books")
+@DynamicUpdate
+@Table(
+        name = "books",
+        schema = "books",
+        uniqueConstraints = @UniqueConstraint(name = Book.ISBN_CONSTRAINT, columnNames = "isbn"),
+        indexes = {
+                @Index(name = "idx_books_author_id", columnList = "author_id"),
+                @Index(name = "idx_books_name_id", columnList = "name, id"),
+                @Index(name = "idx_books_updated_at", columnList = "updated_at")
+        }
+)
 public class Book implements Serializable {
 
+    public static final String ISBN_CONSTRAINT = "books_isbn_key";
+    public static final String AUTHOR_CONSTRAINT = "fk_author_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -27,7 +45,7 @@ public class Book implements Serializable {
     @Column(name = "photo_key", length = 1024)
     private String photoKey;
 
-    @Column(nullable = false, length = 13, unique = true)
+    @Column(nullable = false, length = 13)
     private String isbn;
 
     @Column(nullable = false)
@@ -37,11 +55,20 @@ public class Book implements Serializable {
     @Column(name = "publish_date", nullable = false)
     private LocalDate publishDate;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @Column(name = "author_id", insertable = false, updatable = false)
     private UUID authorId;
 
     @ManyToOne
-    @JoinColumn(name = "author_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_author_id"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "author_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = AUTHOR_CONSTRAINT))
     private Author author;
 
     @OneToMany(mappedBy = "book")
@@ -117,6 +144,14 @@ public class Book implements Serializable {
         this.publishDate = publishDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
     public UUID getAuthorId() {
         return authorId;
     }
@@ -5,12 +5,25 @@ import org.hibernate.annotations.Immutable;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Row of the books read model, the book with its author name and its genres ordered by name. The table is
+ * written by a database trigger on the books table, never by the application.
+ */
 @Immutable
 @Entity(name = "book_view")
-@Table(name = "books_view", schema = "books")
+@Table(
+        name = "books_read",
+        schema = "books",
+        indexes = {
+                @Index(name = "idx_books_read_isbn", columnList = "isbn", unique = true),
+                @Index(name = "idx_books_read_name_id", columnList = "name, id"),
+                @Index(name = "idx_books_read_updated_at", columnList = "updated_at")
+        }
+)
 public class BookView implements Serializable {
 
     @Id
@@ -30,12 +43,43 @@ public class BookView implements Serializable {
     @Column(name = "publish_date")
     private LocalDate publishDate;
 
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     @Column(name = "author_id", nullable = false)
     private UUID authorId;
 
     @Column(name = "author_name")
     private String authorName;
 
+    @Column(name = "genre_ids", nullable = false)
+    private UUID[] genreIds = new UUID[0];
+
+    @Column(name = "genre_names", nullable = false)
+    private String[] genreNames = new String[0];
+
+    public BookView() {
+
+    }
+
+    public BookView(UUID id, String name, String brief, String photoKey, String isbn, BigDecimal price, LocalDate publishDate, UUID authorId, String authorName) {
+        this(id, name, brief, photoKey, isbn, price, publishDate, authorId, authorName, new UUID[0], new String[0]);
+    }
+
+    public BookView(UUID id, String name, String brief, String photoKey, String isbn, BigDecimal price, LocalDate publishDate, UUID authorId, String authorName, UUID[] genreIds, String[] genreNames) {
+        this.id = id;
+        this.name = name;
+        this.brief = brief;
+        this.photoKey = photoKey;
+        this.isbn = isbn;
+        this.price = price;
+        this.publishDate = publishDate;
+        this.authorId = authorId;
+        this.authorName = authorName;
+        this.genreIds = genreIds;
+        this.genreNames = genreNames;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -64,6 +108,10 @@ public class BookView implements Serializable {
         return publishDate;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
     public UUID getAuthorId() {
         return authorId;
     }
@@ -72,4 +120,15 @@ public class BookView implements Serializable {
         return authorName;
     }
 
+    /**
+     * Ids of the genres of the book, {@link #getGenreNames()} holds their names at the same positions.
+     */
+    public UUID[] getGenreIds() {
+        return genreIds;
+    }
+
+    public String[] getGenreNames() {
+        return genreNames;
+    }
+
 }
@@ -2,14 +2,25 @@ package com.bookstore.catalog.domain.entities.genres;
 
 import com.bookstore.catalog.domain.entities.books.Book;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.io.Serializable;
 import java.util.UUID;
 
 @Entity(name = "book_genre")
-@Table(name = "books_genre", schema = "books")
+@Table(
+        name = "books_genre",
+        schema = "books",
+        uniqueConstraints = @UniqueConstraint(name = BookGenre.PAIR_CONSTRAINT, columnNames = {"book_id", "genre_id"}),
+        indexes = @Index(name = "idx_books_genre_genre_id", columnList = "genre_id")
+)
 public class BookGenre implements Serializable {
 
+    public static final String PAIR_CONSTRAINT = "books_genre_book_id_genre_id_key";
+    public static final String BOOK_CONSTRAINT = "fk_book_id";
+    public static final String GENRE_CONSTRAINT = "fk_genre_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -21,11 +32,13 @@ public class BookGenre implements Serializable {
     private UUID genreId;
 
     @ManyToOne
-    @JoinColumn(name = "book_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_book_id"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "book_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = BOOK_CONSTRAINT))
     private Book book;
 
-    @OneToOne
-    @JoinColumn(name = "genre_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_genre_id"))
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "genre_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = GENRE_CONSTRAINT))
     private Genre genre;
 
     public BookGenre() {
@@ -3,12 +3,20 @@ package com.bookstore.catalog.domain.entities.genres;
 import jakarta.persistence.*;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.UUID;
 
 @Entity(name = "genre")
-@Table(name = "genres", schema = "books")
+@Table(
+        name = "genres",
+        schema = "books",
+        uniqueConstraints = @UniqueConstraint(name = Genre.NAME_CONSTRAINT, columnNames = "name"),
+        indexes = @Index(name = "idx_genres_name_id", columnList = "name, id")
+)
 public class Genre implements Serializable {
 
+    public static final String NAME_CONSTRAINT = "genres_name_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -16,8 +24,12 @@ public class Genre implements Serializable {
     @Column(nullable = false, length = 60)
     private String name;
 
-    @OneToOne(mappedBy = "genre")
-    private BookGenre bookGenre;
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @OneToMany(mappedBy = "genre")
+    private Collection<BookGenre> bookGenres;
 
     public Genre() {
 
@@ -36,6 +48,10 @@ public class Genre implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -44,12 +60,8 @@ public class Genre implements Serializable {
         this.name = name;
     }
 
-    public BookGenre getBookGenre() {
-        return bookGenre;
-    }
-
-    public void setBookGenre(BookGenre bookGenre) {
-        this.bookGenre = bookGenre;
+    public Collection<BookGenre> getBookGenres() {
+        return bookGenres;
     }
 
 }
@@ -0,0 +1,6 @@
+package com.bookstore.catalog.domain.events;
+
+import java.util.UUID;
+
+public record AuthorDeletedEvent(UUID authorId) {
+}
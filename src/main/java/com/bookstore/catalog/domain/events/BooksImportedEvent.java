@@ -0,0 +1,7 @@
+package com.bookstore.catalog.domain.events;
+
+/**
+ * Published once a bulk import has written its books, in place of one {@link BookSavedEvent} per book.
+ */
+public record BooksImportedEvent(long count) {
+}
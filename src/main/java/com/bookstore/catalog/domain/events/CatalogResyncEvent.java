@@ -0,0 +1,8 @@
+package com.bookstore.catalog.domain.events;
+
+/**
+ * Published when this instance may have missed writes made by other instances, so every in-memory copy of
+ * the catalog is rebuilt from the database.
+ */
+public record CatalogResyncEvent() {
+}
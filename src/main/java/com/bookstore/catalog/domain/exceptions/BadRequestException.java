@@ -0,0 +1,21 @@
+package com.bookstore.catalog.domain.exceptions;
+
+
+public class BadRequestException extends RuntimeException {
+
+    private String extra;
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, String extra) {
+        super(message);
+        this.extra = extra;
+    }
+
+    public String getExtra() {
+        return extra;
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import com.bookstore.catalog.infra.http.SerializedResponseCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of book details and their entity tag keyed by book id, with a secondary ISBN to id mapping. Caffeine evicts by
+ * W-TinyLFU and expires entries after the configured TTL. Entries are invalidated after commit by the write
+ * events that change what a details response shows.
+ */
+@Component
+public class BookDetailsCache {
+
+    public record Entry(String etag, BookDetailsResponse details) {
+    }
+
+    private final Cache<UUID, Entry> books;
+    private final Cache<String, UUID> isbns;
+    private final SerializedResponseCache serializedResponses;
+
+    // Bumped on every invalidation, so an ISBN load that raced a write does not store what it read
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public BookDetailsCache(
+            @Value("${catalog.cache.books.max-size:10000}") long maxSize,
+            @Value("${catalog.cache.books.ttl:PT10M}") Duration ttl,
+            SerializedResponseCache serializedResponses,
+            MeterRegistry meterRegistry
+    ) {
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.isbns = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.serializedResponses = serializedResponses;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, books, "book_details");
+    }
+
+    /**
+     * Returns the cached details of the book, loading them on a miss. A null load result is not cached.
+     */
+    public Entry get(UUID id, Function<UUID, Entry> loader) {
+        return books.get(id, key -> {
+            Entry entry = loader.apply(key);
+            if (entry != null) {
+                serializedResponses.register(entry.details());
+                isbns.put(entry.details().isbn(), key);
+            }
+            return entry;
+        });
+    }
+
+    public Entry getByIsbn(String isbn, Function<String, Entry> loader) {
+        Entry cached = getPresentByIsbn(isbn);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedAt = generation.get();
+        Entry entry = loader.apply(isbn);
+        if (entry != null && generation.get() == loadedAt) {
+            store(entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Returns the cached details of the books, loading all the missing ones with a single loader call. Books the
+     * loader does not return are left out of the result.
+     */
+    public Map<UUID, Entry> getAll(Collection<UUID> ids, Function<Set<UUID>, Map<UUID, Entry>> loader) {
+        Map<UUID, Entry> entries = new HashMap<>(books.getAllPresent(ids));
+
+        Set<UUID> missing = new HashSet<>(ids);
+        missing.removeAll(entries.keySet());
+        if (!missing.isEmpty()) {
+            entries.putAll(load(missing, loader));
+        }
+
+        return entries;
+    }
+
+    public Map<String, Entry> getAllByIsbn(Collection<String> isbns, Function<Set<String>, Map<String, Entry>> loader) {
+        Map<String, Entry> entries = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String isbn : isbns) {
+            Entry cached = getPresentByIsbn(isbn);
+            if (cached != null) {
+                entries.put(isbn, cached);
+            } else {
+                missing.add(isbn);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            entries.putAll(load(missing, loader));
+        }
+
+        return entries;
+    }
+
+    private Entry getPresentByIsbn(String isbn) {
+        UUID id = isbns.getIfPresent(isbn);
+        if (id == null) {
+            return null;
+        }
+
+        Entry cached = books.getIfPresent(id);
+        // The mapping outlives an ISBN change of the book, so the entry has to still carry this ISBN
+        return cached != null && cached.details().isbn().equals(isbn) ? cached : null;
+    }
+
+    private <K> Map<K, Entry> load(Set<K> keys, Function<Set<K>, Map<K, Entry>> loader) {
+        long loadedAt = generation.get();
+        Map<K, Entry> loaded = loader.apply(keys);
+        if (generation.get() == loadedAt) {
+            loaded.values().forEach(this::store);
+        }
+        return loaded;
+    }
+
+    private void store(Entry entry) {
+        serializedResponses.register(entry.details());
+        books.asMap().putIfAbsent(entry.details().id(), entry);
+        isbns.put(entry.details().isbn(), entry.details().id());
+    }
+
+    public void invalidate(UUID bookId) {
+        generation.incrementAndGet();
+        books.invalidate(bookId);
+    }
+
+    @EventListener(CatalogResyncEvent.class)
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        books.invalidateAll();
+        isbns.invalidateAll();
+    }
+
+    private void invalidateIf(Predicate<BookDetailsResponse> predicate) {
+        generation.incrementAndGet();
+        books.asMap().values().removeIf(entry -> predicate.test(entry.details()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        invalidate(event.bookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        invalidate(event.bookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookGenresChanged(BookGenresChangedEvent event) {
+        invalidate(event.bookId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        if (!event.created()) {
+            invalidateIf(details -> details.author().id().equals(event.authorId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        invalidateIf(details -> details.author().id().equals(event.authorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreSaved(GenreSavedEvent event) {
+        if (!event.created()) {
+            invalidateIf(details -> details.genres().stream().anyMatch(genre -> genre.id().equals(event.genreId())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreDeleted(GenreDeletedEvent event) {
+        invalidateIf(details -> details.genres().stream().anyMatch(genre -> genre.id().equals(event.genreId())));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * All genres held in memory as an immutable snapshot. The table is small and rarely written, so every write
+ * event reloads it whole and swaps the snapshot in one step; readers never lock and never see a half applied
+ * change.
+ */
+@Component
+public class GenreCatalog {
+
+    private static final Comparator<GenreEntry> ORDER = Comparator.comparing(GenreEntry::name).thenComparing(GenreEntry::id);
+
+    /**
+     * Genres ordered by name, the same genres by id and a version derived from their ids and row versions, so
+     * every instance holding the same rows reports the same version.
+     */
+    public record Snapshot(long version, List<GenreEntry> genres, Map<UUID, GenreEntry> byId) {
+
+        private static final Snapshot EMPTY = new Snapshot(List.of());
+
+        private Snapshot(List<GenreEntry> genres) {
+            this(versionOf(genres), genres, genres.stream().collect(Collectors.toUnmodifiableMap(GenreEntry::id, Function.identity())));
+        }
+
+        public GenreEntry find(UUID id) {
+            return byId.get(id);
+        }
+
+        public boolean contains(UUID id) {
+            return byId.containsKey(id);
+        }
+
+        private static long versionOf(List<GenreEntry> genres) {
+            long version = genres.size();
+            for (GenreEntry genre : genres) {
+                version = version * 1_000_003 + genre.id().getMostSignificantBits();
+                version = version * 1_000_003 + genre.id().getLeastSignificantBits();
+                version = version * 1_000_003 + genre.version();
+            }
+            return version;
+        }
+
+    }
+
+    private record Loaded(long sequence, Snapshot snapshot) {
+    }
+
+    private final GenresRepository genresRepository;
+
+    // A reload that started later has seen every earlier commit, so only a higher sequence may replace the snapshot
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReference<Loaded> current = new AtomicReference<>(new Loaded(0, Snapshot.EMPTY));
+
+    @Autowired
+    public GenreCatalog(GenresRepository genresRepository) {
+        this.genresRepository = genresRepository;
+    }
+
+    public Snapshot snapshot() {
+        Loaded loaded = current.get();
+        if (loaded.sequence() == 0) {
+            return reload();
+        }
+        return loaded.snapshot();
+    }
+
+    /**
+     * Reads the genres in a read-only transaction of its own, readers of the snapshot need none.
+     */
+    @EventListener({ApplicationReadyEvent.class, CatalogResyncEvent.class})
+    public Snapshot reload() {
+        long loadSequence = sequence.incrementAndGet();
+        List<GenreEntry> genres = genresRepository.findAllEntries().stream().sorted(ORDER).toList();
+        Loaded loaded = new Loaded(loadSequence, new Snapshot(genres));
+
+        return current.accumulateAndGet(loaded, (previous, next) -> next.sequence() > previous.sequence() ? next : previous).snapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreSaved(GenreSavedEvent event) {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreDeleted(GenreDeletedEvent event) {
+        reload();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.domain.dtos.TotalMode;
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import com.bookstore.catalog.infra.http.SerializedResponseCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Offset list pages of books and authors, dropped per resource by the write events that can change
+ * them. Pages are registered for pre-serialization, so a hit is written without touching Jackson.
+ */
+@Component
+public class ListPageCache {
+
+    public static final String BOOKS = "books";
+    public static final String AUTHORS = "authors";
+
+    private record Key(String resource, int pageIndex, TotalMode total) {
+    }
+
+    private final Cache<Key, Slice<?>> pages;
+    private final SerializedResponseCache serializedResponses;
+
+    // Bumped on every invalidation of a resource, so a load that raced a write does not store what it read
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ListPageCache(
+            @Value("${catalog.cache.pages.max-size:1000}") long maxSize,
+            @Value("${catalog.cache.pages.ttl:PT30S}") Duration ttl,
+            SerializedResponseCache serializedResponses,
+            MeterRegistry meterRegistry
+    ) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.serializedResponses = serializedResponses;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "list_pages");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Slice<T> get(String resource, int pageIndex, TotalMode total, Supplier<Slice<T>> loader) {
+        Key key = new Key(resource, pageIndex, total);
+
+        Slice<T> page = (Slice<T>) pages.getIfPresent(key);
+        if (page != null) {
+            return page;
+        }
+
+        AtomicLong generation = generation(resource);
+        long loadedAt = generation.get();
+        page = loader.get();
+        if (generation.get() == loadedAt) {
+            serializedResponses.register(page);
+            pages.put(key, page);
+        }
+
+        return page;
+    }
+
+    public void invalidate(String resource) {
+        generation(resource).incrementAndGet();
+        pages.asMap().keySet().removeIf(key -> key.resource().equals(resource));
+    }
+
+    private AtomicLong generation(String resource) {
+        return generations.computeIfAbsent(resource, ignored -> new AtomicLong());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        invalidate(BOOKS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        invalidate(BOOKS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBooksImported(BooksImportedEvent event) {
+        invalidate(BOOKS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        invalidate(AUTHORS);
+        if (!event.created()) {
+            invalidate(BOOKS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        invalidate(AUTHORS);
+        invalidate(BOOKS);
+    }
+
+    @EventListener(CatalogResyncEvent.class)
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        pages.invalidateAll();
+    }
+
+}
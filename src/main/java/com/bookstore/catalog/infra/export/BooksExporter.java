@@ -0,0 +1,87 @@
+package com.bookstore.catalog.infra.export;
+
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.domain.dtos.books.BookExportResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the books read model as NDJSON, one book with its genres per line. Rows carry their genres, so a
+ * single cursor ordered by book id is read while writing and memory stays flat whatever the catalog size.
+ */
+@Component
+public class BooksExporter {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final BooksViewRepository booksViewRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BooksExporter(
+            BooksViewRepository booksViewRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.booksViewRepository = booksViewRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Writes every book updated at or after {@code updatedSince}, or the whole catalog when it is null, and
+     * returns the number of books written.
+     */
+    public long export(Instant updatedSince, OutputStream out) {
+        Instant since = updatedSince == null ? Instant.EPOCH : updatedSince;
+
+        Long written = transactionTemplate.execute(status -> {
+            try (Stream<BookView> books = booksViewRepository.streamUpdatedSince(since)) {
+                return write(books.iterator(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return written == null ? 0 : written;
+    }
+
+    private long write(Iterator<BookView> books, OutputStream out) throws IOException {
+        long written = 0;
+
+        while (books.hasNext()) {
+            BookView book = books.next();
+
+            out.write(objectMapper.writeValueAsBytes(BookExportResponse.fromBook(book)));
+            out.write('\n');
+            entityManager.detach(book);
+
+            if (++written % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+
+        out.flush();
+        return written;
+    }
+
+}
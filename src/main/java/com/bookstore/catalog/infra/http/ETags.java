@@ -0,0 +1,45 @@
+package com.bookstore.catalog.infra.http;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Builds strong entity tags from entity versions and evaluates {@code If-None-Match} against them.
+ */
+public final class ETags {
+
+    private ETags() {
+
+    }
+
+    public static String of(Object... versions) {
+        return Arrays.stream(versions)
+                .map(String::valueOf)
+                .collect(Collectors.joining(".", "\"", "\""));
+    }
+
+    /**
+     * Weak comparison as RFC 9110 requires for {@code If-None-Match}, so {@code W/"1"} matches {@code "1"}.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.bookstore.catalog.infra.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Jackson converter that writes the bytes kept by {@link SerializedResponseCache} for registered bodies instead
+ * of serializing them again, gzipped when the client accepts it and the body is large enough. Every other body
+ * is serialized as usual. A gzipped body turns the entity tag of the response weak: the bytes differ from the
+ * identity representation, while {@link ETags#matches} still finds it equivalent for {@code If-None-Match}.
+ */
+public class PreSerializedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SerializedResponseCache serializedResponses;
+
+    public PreSerializedJsonConverter(ObjectMapper objectMapper, SerializedResponseCache serializedResponses) {
+        super(objectMapper);
+        this.serializedResponses = serializedResponses;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        SerializedResponseCache.Serialized serialized = serializedResponses.find(object);
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        if (serialized == null || !isUtf8(contentType)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        SerializedResponseCache.Serializer serializer = () -> getObjectMapper().writeValueAsBytes(object);
+        byte[] bytes = serialized.json(serializer);
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (bytes.length >= serializedResponses.getGzipMinSize() && acceptsGzip(requestedEncodings())) {
+            bytes = serialized.gzip(serializer);
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+        }
+
+        headers.setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    private static boolean isUtf8(MediaType contentType) {
+        return contentType == null || contentType.getCharset() == null || StandardCharsets.UTF_8.equals(contentType.getCharset());
+    }
+
+    private static String requestedEncodings() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        return request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Whether gzip has a non-zero quality in {@code Accept-Encoding}, listed itself or through {@code *} when it is
+     * not listed (RFC 9110, section 12.5.3).
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = Math.max(gzip == null ? 0 : gzip, quality(parameters));
+            } else if (name.equals("*")) {
+                any = quality(parameters);
+            }
+        }
+
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // An unreadable weight does not make the coding acceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.bookstore.catalog.infra.http;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON of response bodies, keyed by the identity of the body. Only bodies registered with
+ * {@link #register(Object)} are kept, which are the immutable responses held by the other caches. The keys are
+ * weak, so the bytes go away together with the cached response they were made from and can never outlive an
+ * invalidation.
+ */
+@Component
+public class SerializedResponseCache {
+
+    @FunctionalInterface
+    public interface Serializer {
+        byte[] serialize() throws IOException;
+    }
+
+    public static final class Serialized {
+
+        private volatile byte[] json;
+        private volatile byte[] gzip;
+
+        public byte[] json(Serializer serializer) throws IOException {
+            byte[] bytes = json;
+            if (bytes == null) {
+                bytes = serializer.serialize();
+                json = bytes;
+            }
+            return bytes;
+        }
+
+        public byte[] gzip(Serializer serializer) throws IOException {
+            byte[] bytes = gzip;
+            if (bytes == null) {
+                bytes = compress(json(serializer));
+                gzip = bytes;
+            }
+            return bytes;
+        }
+
+    }
+
+    private final Cache<Object, Serialized> responses;
+    private final int gzipMinSize;
+
+    @Autowired
+    public SerializedResponseCache(
+            @Value("${catalog.cache.serialized.max-size:20000}") long maxSize,
+            @Value("${catalog.cache.serialized.gzip-min-size:1024}") int gzipMinSize
+    ) {
+        // weakKeys also switches the cache to identity comparison of the keys
+        this.responses = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    public void register(Object body) {
+        responses.asMap().putIfAbsent(body, new Serialized());
+    }
+
+    /**
+     * Returns the serialized forms of the body, or null when the body was not registered.
+     */
+    public Serialized find(Object body) {
+        return responses.getIfPresent(body);
+    }
+
+    public int getGzipMinSize() {
+        return gzipMinSize;
+    }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
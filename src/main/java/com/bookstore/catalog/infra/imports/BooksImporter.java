@@ -0,0 +1,294 @@
+package com.bookstore.catalog.infra.imports;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.domain.dtos.books.BookImportError;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.dtos.books.CreateBookRequest;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.infra.persistence.ConstraintViolations;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates books from an NDJSON stream of {@link CreateBookRequest}, one per line. Lines are validated as they
+ * are read and written in batches, each batch in its own transaction: one query resolves the unknown authors,
+ * one finds the ISBNs already taken and one JDBC batch inserts the rest with ids generated here. Rejected lines
+ * are reported with their line number instead of failing the import.
+ */
+@Component
+public class BooksImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BooksImporter.class);
+
+    private static final String INSERT = "INSERT INTO books.books " +
+            "(id, name, brief, isbn, price, publish_date, author_id, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING";
+
+    private static final int MAX_KNOWN_AUTHORS = 10_000;
+
+    private record Row(long line, CreateBookRequest book) {
+    }
+
+    private record BatchResult(long imported, List<BookImportError> errors) {
+    }
+
+    private final AuthorsRepository authorsRepository;
+    private final BooksRepository booksRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxErrors;
+
+    @Autowired
+    public BooksImporter(
+            AuthorsRepository authorsRepository,
+            BooksRepository booksRepository,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${catalog.import.batch-size:1000}") int batchSize,
+            @Value("${catalog.import.max-errors:1000}") int maxErrors
+    ) {
+        this.authorsRepository = authorsRepository;
+        this.booksRepository = booksRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public BookImportResponse importBooks(InputStream in) {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<Row> batch = new ArrayList<>(batchSize);
+            long line = 0;
+
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                progress.received++;
+                Row row = parse(line, text, progress);
+                if (row == null) {
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    progress.add(write(batch, progress.authors));
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                progress.add(write(batch, progress.authors));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Batches written before a failure stay committed, so the caches have to hear about them anyway
+            if (progress.imported > 0) {
+                eventPublisher.publishEvent(new BooksImportedEvent(progress.imported));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long booksPerSecond = elapsedNanos == 0 ? 0 : progress.imported * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+
+        logger.info("Imported {} of {} books in {} ms ({} books/s)", progress.imported, progress.received, elapsedMillis, booksPerSecond);
+
+        return new BookImportResponse(
+                progress.received,
+                progress.imported,
+                progress.failed,
+                elapsedMillis,
+                booksPerSecond,
+                progress.errors
+        );
+    }
+
+    private Row parse(long line, String text, Progress progress) {
+        CreateBookRequest request;
+        try {
+            request = objectMapper.readValue(text, CreateBookRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.reject(List.of(new BookImportError(line, "Invalid book: " + e.getOriginalMessage(), null)));
+            return null;
+        }
+        if (request == null) {
+            progress.reject(List.of(new BookImportError(line, "Invalid book: null", null)));
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateBookRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(violations.stream()
+                    .map(violation -> new BookImportError(line, violation.getMessage(), violation.getPropertyPath().toString()))
+                    .toList());
+            return null;
+        }
+
+        var book = new CreateBookRequest(
+                UUID.randomUUID(),
+                request.name(),
+                request.brief(),
+                request.isbn(),
+                request.price(),
+                request.publishDate(),
+                request.authorId()
+        );
+        return new Row(line, book);
+    }
+
+    private BatchResult write(List<Row> batch, Set<UUID> knownAuthors) {
+        try {
+            return transactionTemplate.execute(status -> insert(batch, knownAuthors));
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Book.AUTHOR_CONSTRAINT)) {
+                throw e;
+            }
+
+            // An author was deleted after it was resolved, resolve every author of the batch again
+            knownAuthors.clear();
+            return transactionTemplate.execute(status -> insert(batch, knownAuthors));
+        }
+    }
+
+    private BatchResult insert(List<Row> batch, Set<UUID> knownAuthors) {
+        Set<UUID> unknownAuthors = new HashSet<>();
+        List<String> isbns = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            if (!knownAuthors.contains(row.book().authorId())) {
+                unknownAuthors.add(row.book().authorId());
+            }
+            isbns.add(row.book().isbn());
+        }
+
+        if (!unknownAuthors.isEmpty()) {
+            // Keeps the cache bounded on bodies spread over many authors, they are resolved again when needed
+            if (knownAuthors.size() + unknownAuthors.size() > MAX_KNOWN_AUTHORS) {
+                knownAuthors.clear();
+            }
+            knownAuthors.addAll(authorsRepository.findExistingIds(unknownAuthors));
+        }
+        Set<String> takenIsbns = new HashSet<>(booksRepository.findExistingIsbns(isbns));
+
+        // ISBNs of earlier batches are in the table by now, only the accepted rows of this batch are tracked
+        Set<String> acceptedIsbns = new HashSet<>();
+        List<BookImportError> errors = new ArrayList<>();
+        List<Row> accepted = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            CreateBookRequest book = row.book();
+            if (!knownAuthors.contains(book.authorId())) {
+                errors.add(new BookImportError(row.line(), "Author " + book.authorId() + " not found", "author"));
+            } else if (takenIsbns.contains(book.isbn())) {
+                errors.add(new BookImportError(row.line(), "Already exists a book with this isbn", "isbn"));
+            } else if (!acceptedIsbns.add(book.isbn())) {
+                errors.add(new BookImportError(row.line(), "Isbn repeated in this import", "isbn"));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return new BatchResult(0, errors);
+        }
+
+        List<Object[]> arguments = new ArrayList<>(accepted.size());
+        for (Row row : accepted) {
+            CreateBookRequest book = row.book();
+            arguments.add(new Object[]{
+                    book.id(), book.name(), book.brief(), book.isbn(), book.price(), book.publishDate(), book.authorId()
+            });
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT, arguments);
+
+        long imported = 0;
+        for (int i = 0; i < counts.length; i++) {
+            // Zero rows means another writer took the isbn after the check above
+            if (counts[i] == 0) {
+                errors.add(new BookImportError(accepted.get(i).line(), "Already exists a book with this isbn", "isbn"));
+            } else if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                imported++;
+            }
+        }
+
+        return new BatchResult(imported, errors);
+    }
+
+    private final class Progress {
+
+        private final Set<UUID> authors = new HashSet<>();
+        private final List<BookImportError> errors = new ArrayList<>();
+
+        private long received;
+        private long imported;
+        private long failed;
+
+        void add(BatchResult result) {
+            imported += result.imported();
+
+            // A batch reports one error per rejected line
+            failed += result.errors().size();
+            keep(result.errors());
+        }
+
+        void reject(List<BookImportError> lineErrors) {
+            failed++;
+            keep(lineErrors);
+        }
+
+        private void keep(List<BookImportError> lineErrors) {
+            for (BookImportError error : lineErrors) {
+                if (errors.size() < maxErrors) {
+                    errors.add(error);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.bookstore.catalog.infra.invalidation;
+
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes the write events into NOTIFY payloads tagged with the instance that sent them, and back.
+ */
+class InvalidationCodec {
+
+    static final List<Class<?>> EVENT_TYPES = List.of(
+            BookSavedEvent.class,
+            BookDeletedEvent.class,
+            BookGenresChangedEvent.class,
+            BooksImportedEvent.class,
+            AuthorSavedEvent.class,
+            AuthorDeletedEvent.class,
+            GenreSavedEvent.class,
+            GenreDeletedEvent.class
+    );
+
+    private static final Map<String, Class<?>> TYPES_BY_NAME = EVENT_TYPES.stream()
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    record Message(String origin, String type, JsonNode event) {
+    }
+
+    record Received(String origin, Object event) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    InvalidationCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String encode(String origin, Object event) throws JsonProcessingException {
+        var message = new Message(origin, event.getClass().getSimpleName(), objectMapper.valueToTree(event));
+        return objectMapper.writeValueAsString(message);
+    }
+
+    /**
+     * Returns the event of the payload, or null for an event type this instance does not know.
+     */
+    Received decode(String payload) throws JsonProcessingException {
+        Message message = objectMapper.readValue(payload, Message.class);
+
+        Class<?> type = TYPES_BY_NAME.get(message.type());
+        if (type == null) {
+            return null;
+        }
+
+        return new Received(message.origin(), objectMapper.treeToValue(message.event(), type));
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.bookstore.catalog.infra.invalidation;
+
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Shares the write events between catalog instances through PostgreSQL LISTEN/NOTIFY. Local events are sent
+ * with {@code pg_notify} inside the writing transaction, so they are delivered on commit only. A dedicated
+ * connection listens for the events of the other instances and publishes them locally, which keeps the caches
+ * and indexes of every instance in step without an external broker. When the listening connection drops, the
+ * events sent meanwhile are lost, so a {@link CatalogResyncEvent} is published once it is back.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.invalidation.enabled", havingValue = "true")
+public class PostgresInvalidationBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MS = 10_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    // Set while a remote event is published locally, so it is not sent back to the channel
+    private static final ThreadLocal<Boolean> REPLAYING = ThreadLocal.withInitial(() -> false);
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final String channel;
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InvalidationCodec codec;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    @Autowired
+    public PostgresInvalidationBus(
+            @Value("${catalog.invalidation.channel:catalog_invalidation}") String channel,
+            DataSourceProperties dataSourceProperties,
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper
+    ) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name " + channel);
+        }
+
+        this.channel = channel;
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.codec = new InvalidationCodec(objectMapper);
+    }
+
+    @TransactionalEventListener(
+            phase = TransactionPhase.BEFORE_COMMIT,
+            fallbackExecution = true,
+            classes = {
+                    BookSavedEvent.class,
+                    BookDeletedEvent.class,
+                    BookGenresChangedEvent.class,
+                    BooksImportedEvent.class,
+                    AuthorSavedEvent.class,
+                    AuthorDeletedEvent.class,
+                    GenreSavedEvent.class,
+                    GenreDeletedEvent.class
+            }
+    )
+    public void send(Object event) throws JsonProcessingException {
+        if (REPLAYING.get()) {
+            return;
+        }
+
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, codec.encode(instanceId, event));
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listener = new Thread(this::listen, "catalog-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                listenConnection = connection;
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+
+                if (connectedBefore) {
+                    logger.info("Invalidation listener reconnected, resyncing the local catalog copies");
+                    eventPublisher.publishEvent(new CatalogResyncEvent());
+                }
+                connectedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Invalidation listener lost its connection, retrying in {} ms", RECONNECT_DELAY_MS, e);
+                    sleepBeforeReconnect();
+                }
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            InvalidationCodec.Received received = codec.decode(payload);
+            if (received == null || instanceId.equals(received.origin())) {
+                return;
+            }
+
+            REPLAYING.set(true);
+            try {
+                eventPublisher.publishEvent(received.event());
+            } finally {
+                REPLAYING.set(false);
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Ignoring malformed invalidation payload {}", payload, e);
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply invalidation payload {}", payload, e);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // Closing only unblocks the listener thread
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.bookstore.catalog.infra.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Data source that reports every executed statement, its execution time and every fetched row to
+ * {@link QueryCounter}. Connections, statements and result sets are wrapped in plain JDK proxies, so any driver
+ * and pool works underneath.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection(), CountingDataSource::connectionCall);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password), CountingDataSource::connectionCall);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static Object connectionCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (result instanceof CallableStatement statement) {
+            return wrap(CallableStatement.class, statement, CountingDataSource::statementCall);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return wrap(PreparedStatement.class, statement, CountingDataSource::statementCall);
+        }
+        if (result instanceof Statement statement) {
+            return wrap(Statement.class, statement, CountingDataSource::statementCall);
+        }
+        return result;
+    }
+
+    private static Object statementCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result;
+        if (method.getName().startsWith("execute")) {
+            long start = System.nanoTime();
+            try {
+                result = invoke(target, method, args);
+            } finally {
+                QueryCounter.statement(System.nanoTime() - start);
+            }
+        } else {
+            result = invoke(target, method, args);
+        }
+
+        if (result instanceof ResultSet resultSet) {
+            return wrap(ResultSet.class, resultSet, CountingDataSource::resultSetCall);
+        }
+        return result;
+    }
+
+    private static Object resultSetCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+            QueryCounter.row();
+        }
+        return result;
+    }
+
+    private static <T> T wrap(Class<T> type, T target, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> call.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
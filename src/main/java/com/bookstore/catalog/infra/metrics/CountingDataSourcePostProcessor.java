@@ -0,0 +1,23 @@
+package com.bookstore.catalog.infra.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every data source of the context in a {@link CountingDataSource}. Delegating data sources, like the
+ * read/write routing one, are left alone: the data sources they delegate to are wrapped already, and wrapping
+ * both would count every statement twice.
+ */
+public class CountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+}
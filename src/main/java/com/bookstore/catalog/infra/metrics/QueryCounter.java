@@ -0,0 +1,55 @@
+package com.bookstore.catalog.infra.metrics;
+
+/**
+ * Statements, fetched rows and database time of the work done on the current thread between {@link #start()}
+ * and {@link #stop()}. Statements run while no count is active are not recorded.
+ */
+public final class QueryCounter {
+
+    public record Counts(long statements, long rows, long nanos) {
+    }
+
+    private static final class Active {
+        private long statements;
+        private long rows;
+        private long nanos;
+    }
+
+    private static final ThreadLocal<Active> ACTIVE = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        ACTIVE.set(new Active());
+    }
+
+    /**
+     * Ends the count of the current thread and returns it, or null when no count was started.
+     */
+    public static Counts stop() {
+        Active active = ACTIVE.get();
+        ACTIVE.remove();
+        return active == null ? null : new Counts(active.statements, active.rows, active.nanos);
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    static void statement(long nanos) {
+        Active active = ACTIVE.get();
+        if (active != null) {
+            active.statements++;
+            active.nanos += nanos;
+        }
+    }
+
+    static void row() {
+        Active active = ACTIVE.get();
+        if (active != null) {
+            active.rows++;
+        }
+    }
+
+}
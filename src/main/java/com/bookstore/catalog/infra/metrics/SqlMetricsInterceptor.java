@@ -0,0 +1,79 @@
+package com.bookstore.catalog.infra.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL statements, fetched rows and database time of every request handled by a controller method,
+ * tagged with the method as {@code BooksController.getBook}, and warns about requests running more statements
+ * than the budget, which is how an N+1 query usually shows up.
+ */
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async part runs on other threads, only the dispatches on the request thread are counted
+        record(handler, QueryCounter.stop());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(handler, QueryCounter.stop());
+    }
+
+    private void record(Object handler, QueryCounter.Counts counts) {
+        if (counts == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder("catalog.request.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(counts.statements());
+        DistributionSummary.builder("catalog.request.sql.rows")
+                .description("Rows fetched per request")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(counts.rows());
+        Timer.builder("catalog.request.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tag("handler", name)
+                .register(meterRegistry)
+                .record(counts.nanos(), TimeUnit.NANOSECONDS);
+
+        if (counts.statements() > statementBudget) {
+            logger.warn("{} executed {} SQL statements, over the budget of {}", name, counts.statements(), statementBudget);
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.bookstore.catalog.infra.pagination;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row counts of books and authors kept in memory so list endpoints can report a total without running
+ * a {@code COUNT} per request. The counters follow the write events of this instance and are recounted
+ * periodically to absorb writes made by other instances.
+ */
+@Component
+public class ApproximateCounts {
+
+    private final BooksViewRepository booksViewRepository;
+    private final AuthorsRepository authorsRepository;
+
+    private final AtomicLong books = new AtomicLong();
+    private final AtomicLong authors = new AtomicLong();
+
+    @Autowired
+    public ApproximateCounts(
+            BooksViewRepository booksViewRepository,
+            AuthorsRepository authorsRepository
+    ) {
+        this.booksViewRepository = booksViewRepository;
+        this.authorsRepository = authorsRepository;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, CatalogResyncEvent.class, BooksImportedEvent.class})
+    @Scheduled(initialDelayString = "${catalog.pagination.count-refresh:PT5M}", fixedDelayString = "${catalog.pagination.count-refresh:PT5M}")
+    public void refresh() {
+        books.set(booksViewRepository.count());
+        authors.set(authorsRepository.count());
+    }
+
+    public <T> Page<T> books(Slice<T> slice) {
+        return withTotal(slice, books.get());
+    }
+
+    public <T> Page<T> authors(Slice<T> slice) {
+        return withTotal(slice, authors.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        if (event.created()) {
+            books.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        decrement(books);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        if (event.created()) {
+            authors.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        decrement(authors);
+        // Books of the author are removed by the ON DELETE CASCADE, their number is unknown here
+        books.set(booksViewRepository.count());
+    }
+
+    private static void decrement(AtomicLong counter) {
+        counter.updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    private static <T> Page<T> withTotal(Slice<T> slice, long total) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+
+        // The slice itself proves bounds on the total, the counter only fills in what lies beyond this page
+        if (slice.hasNext()) {
+            total = Math.max(total, seen + 1);
+        } else if (slice.hasContent()) {
+            total = seen;
+        } else {
+            total = Math.min(total, offset);
+        }
+
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+}
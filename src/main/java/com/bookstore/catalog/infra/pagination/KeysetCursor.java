@@ -0,0 +1,90 @@
+package com.bookstore.catalog.infra.pagination;
+
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.exceptions.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for lists ordered by {@code (name, id)}: the base64url encoded name and id of the last row
+ * of the previous page. An empty cursor starts from the first row.
+ */
+public final class KeysetCursor {
+
+    public static final int PAGE_SIZE = 10;
+
+    private static final char SEPARATOR = '\0';
+
+    /**
+     * Query for the rows after a name and id in {@code (name, id)} order.
+     */
+    @FunctionalInterface
+    public interface After<E> {
+        List<E> find(String name, UUID id, Limit limit);
+    }
+
+    private KeysetCursor() {
+
+    }
+
+    public static String encode(String name, UUID id) {
+        String raw = name + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return ScrollPosition.forward(Map.of(
+                    "name", raw.substring(0, separator),
+                    "id", UUID.fromString(raw.substring(separator + 1))
+            ));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor", "cursor");
+        }
+    }
+
+    /**
+     * Loads the page following the cursor with the first or the after query. One row more than a page is read to
+     * tell whether another page follows.
+     */
+    public static <E, T> CursorPage<T> page(
+            String cursor,
+            Function<Limit, List<E>> first,
+            After<E> after,
+            Function<E, String> name,
+            Function<E, UUID> id,
+            Function<E, T> mapper
+    ) {
+        KeysetScrollPosition position = (KeysetScrollPosition) decode(cursor);
+        Limit limit = Limit.of(PAGE_SIZE + 1);
+        List<E> rows = position.isInitial()
+                ? first.apply(limit)
+                : after.find((String) position.getKeys().get("name"), (UUID) position.getKeys().get("id"), limit);
+
+        boolean hasNext = rows.size() > PAGE_SIZE;
+        List<E> content = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+
+        String next = null;
+        if (hasNext) {
+            E last = content.get(content.size() - 1);
+            next = encode(name.apply(last), id.apply(last));
+        }
+
+        return new CursorPage<>(content.stream().map(mapper).toList(), next, hasNext);
+    }
+
+}
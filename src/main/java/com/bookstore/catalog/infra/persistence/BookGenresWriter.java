@@ -0,0 +1,78 @@
+package com.bookstore.catalog.infra.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replaces the genres of a book with plain JDBC: one DELETE for the links that are not wanted anymore and one
+ * batch of inserts for the wanted ones, existing links are skipped by the unique (book_id, genre_id) index. Runs
+ * in the transaction of the caller, a missing book or genre surfaces as a foreign key violation.
+ */
+@Component
+public class BookGenresWriter {
+
+    private static final String DELETE_ALL = "DELETE FROM books.books_genre WHERE book_id = ?";
+    private static final String INSERT = "INSERT INTO books.books_genre (id, book_id, genre_id) VALUES (?, ?, ?) " +
+            "ON CONFLICT DO NOTHING";
+
+    public record Changes(int removed, int added) {
+
+        public boolean any() {
+            return removed > 0 || added > 0;
+        }
+
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public BookGenresWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Changes replace(UUID bookId, Collection<UUID> genreIds) {
+        int removed = jdbcTemplate.update(deleteStatement(genreIds.size()), deleteArguments(bookId, genreIds));
+        if (genreIds.isEmpty()) {
+            return new Changes(removed, 0);
+        }
+
+        List<Object[]> rows = new ArrayList<>(genreIds.size());
+        for (UUID genreId : genreIds) {
+            rows.add(new Object[]{UUID.randomUUID(), bookId, genreId});
+        }
+
+        // A driver that rewrites the batch may not report per row counts, count those rows as added then
+        int added = Arrays.stream(jdbcTemplate.batchUpdate(INSERT, rows))
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .sum();
+        return new Changes(removed, added);
+    }
+
+    private static String deleteStatement(int kept) {
+        if (kept == 0) {
+            return DELETE_ALL;
+        }
+        return DELETE_ALL + " AND genre_id NOT IN (" + String.join(", ", Collections.nCopies(kept, "?")) + ")";
+    }
+
+    private static Object[] deleteArguments(UUID bookId, Collection<UUID> genreIds) {
+        Object[] arguments = new Object[genreIds.size() + 1];
+        arguments[0] = bookId;
+
+        int index = 1;
+        for (UUID genreId : genreIds) {
+            arguments[index++] = genreId;
+        }
+        return arguments;
+    }
+
+}
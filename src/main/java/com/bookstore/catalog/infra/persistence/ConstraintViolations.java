@@ -0,0 +1,38 @@
+package com.bookstore.catalog.infra.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Tells which constraint a failed write violated, so a unique or foreign key violation raised by the database
+ * can be answered like the check it replaces.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isViolationOf(DataIntegrityViolationException e, String constraint) {
+        String name = constraint.toLowerCase(Locale.ROOT);
+
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && contains(violation.getConstraintName(), name)) {
+                return true;
+            }
+            // Plain JDBC writes carry the driver exception only, its message names the constraint
+            if (cause instanceof SQLException sqlException && contains(sqlException.getMessage(), name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean contains(String text, String name) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(name);
+    }
+
+}
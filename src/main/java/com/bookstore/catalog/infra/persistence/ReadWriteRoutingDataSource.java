@@ -0,0 +1,43 @@
+package com.bookstore.catalog.infra.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends the connections of read-only transactions to the replica and every other connection to the primary.
+ * The replica is skipped while {@link ReplicaLagMonitor} reports it behind or unreachable, or right after a
+ * write, so reads see what was just written.
+ * <p>
+ * The transaction managers ask for the connection before they publish the read-only flag, so this data source
+ * only routes correctly behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which fetches the connection on the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReadable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.bookstore.catalog.infra.persistence;
+
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Tells whether the replica may serve reads. It is checked on a schedule with a query returning the replay lag
+ * in seconds, and is not readable while that lag exceeds {@code max-lag} or the query fails. Every local or
+ * remote write event also keeps reads on the primary for {@code max-lag}, long enough for a replica within
+ * bounds to replay it, so the caches reloading after the event do not pick up the previous state.
+ */
+public class ReplicaLagMonitor {
+
+    /**
+     * Zero when the standby has replayed everything it received, otherwise the age of the last replayed
+     * transaction. Null on a server that is not a standby, which counts as no lag.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    // Unreadable until the first check succeeds
+    private volatile boolean withinLag;
+    private volatile long primaryUntil = System.nanoTime();
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.datasource.replica.lag-check:PT1S}")
+    public void check() {
+        boolean readable;
+        try {
+            Double lagSeconds = replica.queryForObject(lagQuery, Double.class);
+            readable = lagSeconds == null || lagSeconds * 1000 <= maxLag.toMillis();
+            if (!readable && withinLag) {
+                logger.warn("Replica is {} s behind, reading from the primary", lagSeconds);
+            }
+        } catch (DataAccessException e) {
+            readable = false;
+            if (withinLag) {
+                logger.warn("Replica lag check failed, reading from the primary", e);
+            }
+        }
+
+        if (readable && !withinLag) {
+            logger.info("Replica is within {} of the primary, reading from it", maxLag);
+        }
+        withinLag = readable;
+    }
+
+    // Ahead of the cache and index reloads listening to the same events, so they already read from the primary
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(
+            fallbackExecution = true,
+            classes = {
+                    BookSavedEvent.class,
+                    BookDeletedEvent.class,
+                    BookGenresChangedEvent.class,
+                    BooksImportedEvent.class,
+                    AuthorSavedEvent.class,
+                    AuthorDeletedEvent.class,
+                    GenreSavedEvent.class,
+                    GenreDeletedEvent.class
+            }
+    )
+    public void onWrite() {
+        primaryUntil = System.nanoTime() + maxLag.toNanos();
+    }
+
+    public boolean isReadable() {
+        return withinLag && System.nanoTime() - primaryUntil >= 0;
+    }
+
+}
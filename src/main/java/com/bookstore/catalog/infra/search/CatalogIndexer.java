@@ -0,0 +1,81 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.search.CatalogIndex;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.domain.events.CatalogResyncEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Loads every {@link CatalogIndex} from the books view at startup and forwards the write events to them.
+ */
+@Component
+public class CatalogIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogIndexer.class);
+
+    private final BooksViewRepository booksViewRepository;
+    private final List<CatalogIndex> indexes;
+
+    @Autowired
+    public CatalogIndexer(BooksViewRepository booksViewRepository, ObjectProvider<CatalogIndex> indexes) {
+        this.booksViewRepository = booksViewRepository;
+        this.indexes = indexes.orderedStream().toList();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, CatalogResyncEvent.class, BooksImportedEvent.class})
+    public void load() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<BookView> books = booksViewRepository.findAll();
+        indexes.forEach(index -> index.load(books));
+
+        logger.info("Loaded {} books into {} catalog indexes in {} ms", books.size(), indexes.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookSaved(BookSavedEvent event) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        booksViewRepository.findById(event.bookId())
+                .ifPresentOrElse(
+                        book -> indexes.forEach(index -> index.put(book)),
+                        () -> indexes.forEach(index -> index.remove(event.bookId()))
+                );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookDeleted(BookDeletedEvent event) {
+        indexes.forEach(index -> index.remove(event.bookId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        indexes.forEach(index -> index.renameAuthor(event.authorId(), event.name()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorDeleted(AuthorDeletedEvent event) {
+        indexes.forEach(index -> index.removeAuthor(event.authorId()));
+    }
+
+}
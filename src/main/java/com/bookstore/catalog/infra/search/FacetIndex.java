@@ -0,0 +1,286 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.application.search.CatalogIndex;
+import com.bookstore.catalog.domain.dtos.books.FacetCount;
+import com.bookstore.catalog.domain.dtos.books.SearchFacets;
+import com.bookstore.catalog.domain.dtos.genre.BookGenreLink;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Facet counts for search results. Every book gets a dense ordinal; genres, price buckets and publish years keep
+ * a bitset of ordinals per value, which is intersected with the bitset of the result set. Authors have too many
+ * values for that, so they are counted by walking the result bits through an ordinal to author table.
+ * Only the inverted index engine reports facets, so the index only exists with that engine.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "index", matchIfMissing = true)
+public class FacetIndex implements CatalogIndex {
+
+    private static final int[] PRICE_EDGES = {10, 25, 50, 100};
+    private static final int MAX_VALUES = 20;
+
+    private final BooksGenresRepository booksGenresRepository;
+    private final GenresRepository genresRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> authorsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<UUID, BitSet> genres = new HashMap<>();
+    private final Map<String, BitSet> prices = new HashMap<>();
+    private final Map<Integer, BitSet> years = new HashMap<>();
+
+    private final Map<UUID, String> genreNames = new HashMap<>();
+    private final Map<UUID, String> authorNames = new HashMap<>();
+
+    @Autowired
+    public FacetIndex(BooksGenresRepository booksGenresRepository, GenresRepository genresRepository) {
+        this.booksGenresRepository = booksGenresRepository;
+        this.genresRepository = genresRepository;
+    }
+
+    public SearchFacets count(Collection<UUID> bookIds) {
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet(authorsByOrdinal.size());
+            for (UUID bookId : bookIds) {
+                Integer ordinal = ordinals.get(bookId);
+                if (ordinal != null) {
+                    result.set(ordinal);
+                }
+            }
+
+            if (result.isEmpty()) {
+                return SearchFacets.empty();
+            }
+
+            Map<UUID, Long> authorCounts = new HashMap<>();
+            for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+                authorCounts.merge(authorsByOrdinal.get(ordinal), 1L, Long::sum);
+            }
+
+            return new SearchFacets(
+                    intersect(genres, result, UUID::toString, genreNames::get),
+                    top(authorCounts, UUID::toString, authorNames::get),
+                    intersect(prices, result, Function.identity(), Function.identity()),
+                    intersect(years, result, String::valueOf, String::valueOf)
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void load(Collection<BookView> views) {
+        List<BookGenreLink> links = booksGenresRepository.findAllLinks();
+        var allGenres = genresRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            authorsByOrdinal.clear();
+            freeOrdinals.clear();
+            genres.clear();
+            prices.clear();
+            years.clear();
+            genreNames.clear();
+            authorNames.clear();
+
+            allGenres.forEach(genre -> genreNames.put(genre.getId(), genre.getName()));
+            views.forEach(this::index);
+
+            for (BookGenreLink link : links) {
+                Integer ordinal = ordinals.get(link.bookId());
+                if (ordinal != null) {
+                    genres.computeIfAbsent(link.genreId(), id -> new BitSet()).set(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(BookView view) {
+        lock.writeLock().lock();
+        try {
+            index(view);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+        lock.writeLock().lock();
+        try {
+            unindex(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void renameAuthor(UUID authorId, String name) {
+        lock.writeLock().lock();
+        try {
+            authorNames.computeIfPresent(authorId, (id, previous) -> name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAuthor(UUID authorId) {
+        lock.writeLock().lock();
+        try {
+            List<UUID> bookIds = ordinals.entrySet().stream()
+                    .filter(entry -> authorId.equals(authorsByOrdinal.get(entry.getValue())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            bookIds.forEach(this::unindex);
+            authorNames.remove(authorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookGenresChanged(BookGenresChangedEvent event) {
+        List<UUID> genreIds = booksGenresRepository.findGenreIdsByBookId(event.bookId());
+
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(event.bookId());
+            if (ordinal == null) {
+                return;
+            }
+
+            clear(genres, ordinal);
+            genreIds.forEach(genreId -> genres.computeIfAbsent(genreId, id -> new BitSet()).set(ordinal));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreSaved(GenreSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            genreNames.put(event.genreId(), event.name());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenreDeleted(GenreDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            genres.remove(event.genreId());
+            genreNames.remove(event.genreId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String priceBucket(BigDecimal price) {
+        if (price == null) {
+            return "unknown";
+        }
+
+        int lower = 0;
+        for (int edge : PRICE_EDGES) {
+            if (price.compareTo(BigDecimal.valueOf(edge)) < 0) {
+                return lower + "-" + edge;
+            }
+            lower = edge;
+        }
+        return lower + "+";
+    }
+
+    private void index(BookView view) {
+        Integer ordinal = ordinals.get(view.getId());
+        if (ordinal == null) {
+            ordinal = freeOrdinals.isEmpty() ? authorsByOrdinal.size() : freeOrdinals.pop();
+            ordinals.put(view.getId(), ordinal);
+            if (ordinal == authorsByOrdinal.size()) {
+                authorsByOrdinal.add(null);
+            }
+        } else {
+            clear(prices, ordinal);
+            clear(years, ordinal);
+        }
+
+        authorsByOrdinal.set(ordinal, view.getAuthorId());
+        authorNames.put(view.getAuthorId(), view.getAuthorName());
+
+        prices.computeIfAbsent(priceBucket(view.getPrice()), bucket -> new BitSet()).set(ordinal);
+        if (view.getPublishDate() != null) {
+            years.computeIfAbsent(view.getPublishDate().getYear(), year -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void unindex(UUID bookId) {
+        Integer ordinal = ordinals.remove(bookId);
+        if (ordinal == null) {
+            return;
+        }
+
+        clear(genres, ordinal);
+        clear(prices, ordinal);
+        clear(years, ordinal);
+        authorsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    private static <K> void clear(Map<K, BitSet> facet, int ordinal) {
+        facet.values().removeIf(bits -> {
+            bits.clear(ordinal);
+            return bits.isEmpty();
+        });
+    }
+
+    private static <K> List<FacetCount> intersect(
+            Map<K, BitSet> facet,
+            BitSet result,
+            Function<K, String> value,
+            Function<K, String> label
+    ) {
+        Map<K, Long> counts = new HashMap<>();
+        facet.forEach((key, bits) -> {
+            BitSet matches = (BitSet) bits.clone();
+            matches.and(result);
+            if (!matches.isEmpty()) {
+                counts.put(key, (long) matches.cardinality());
+            }
+        });
+        return top(counts, value, label);
+    }
+
+    private static <K> List<FacetCount> top(Map<K, Long> counts, Function<K, String> value, Function<K, String> label) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetCount(value.apply(entry.getKey()), label.apply(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingLong(FacetCount::count).reversed().thenComparing(FacetCount::value))
+                .limit(MAX_VALUES)
+                .toList();
+    }
+
+}
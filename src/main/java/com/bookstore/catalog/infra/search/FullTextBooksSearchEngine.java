@@ -0,0 +1,65 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.search.BooksSearchEngine;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL full-text search over the GIN indexed {@code books_read.search_vector} column (see V2 and V8),
+ * ordered by {@code ts_rank}. Every query term is matched as a prefix, like the in-memory index does. Terms
+ * keep their accents because the {@code simple} text search configuration does not strip them.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "fulltext")
+public class FullTextBooksSearchEngine implements BooksSearchEngine {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BooksViewRepository booksViewRepository;
+
+    @Autowired
+    public FullTextBooksSearchEngine(BooksViewRepository booksViewRepository) {
+        this.booksViewRepository = booksViewRepository;
+    }
+
+    @Override
+    public Page<BookResponse> search(String query, Pageable pageable) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return booksViewRepository.fullTextSearch(tsQuery, pageable).map(BookResponse::fromBook);
+    }
+
+    @Override
+    public Slice<BookResponse> searchSlice(String query, Pageable pageable) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        return booksViewRepository.fullTextSearchSlice(tsQuery, pageable).map(BookResponse::fromBook);
+    }
+
+    static String toTsQuery(String query) {
+        return Arrays.stream(SEPARATORS.split(query.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.search.BooksSearchEngine;
+import com.bookstore.catalog.application.search.CatalogIndex;
+import com.bookstore.catalog.domain.dtos.FacetedPage;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Tokenized inverted index over book name, author name and ISBN. Every query term must match
+ * (exactly or as a prefix of an indexed term) and results are ordered by the summed field weights. Pages carry
+ * the facet counts of every matching book.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "index", matchIfMissing = true)
+public class InvertedIndexBooksSearchEngine implements BooksSearchEngine, CatalogIndex {
+
+    private static final int ISBN_WEIGHT = 8;
+    private static final int NAME_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private volatile Index index = new Index();
+
+    private final FacetIndex facetIndex;
+
+    @Autowired
+    public InvertedIndexBooksSearchEngine(FacetIndex facetIndex) {
+        this.facetIndex = facetIndex;
+    }
+
+    @Override
+    public Page<BookResponse> search(String query, Pageable pageable) {
+        Index index = this.index;
+        List<String> tokens = TextNormalizer.tokenize(query);
+
+        String isbn = TextNormalizer.compactIsbn(query);
+        if (isbn.length() >= 10 && index.postings.containsKey(isbn)) {
+            tokens = List.of(isbn);
+        }
+
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<UUID, Integer> scores = null;
+        for (String token : tokens) {
+            Map<UUID, Integer> matches = index.match(token);
+            if (scores == null) {
+                scores = matches;
+            } else {
+                scores.keySet().retainAll(matches.keySet());
+                scores.replaceAll((id, score) -> score + matches.get(id));
+            }
+
+            if (scores.isEmpty()) {
+                return Page.empty(pageable);
+            }
+        }
+
+        List<ScoredBook> ranked = new ArrayList<>(scores.size());
+        for (Map.Entry<UUID, Integer> entry : scores.entrySet()) {
+            IndexedBook book = index.books.get(entry.getKey());
+            if (book != null) {
+                ranked.add(new ScoredBook(book, entry.getValue()));
+            }
+        }
+        ranked.sort(ScoredBook.ORDER);
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+
+        List<BookResponse> content = ranked.subList(from, to).stream()
+                .map(scored -> scored.book().toResponse())
+                .toList();
+
+        return new FacetedPage<>(content, pageable, ranked.size(), facetIndex.count(scores.keySet()));
+    }
+
+    @Override
+    public Slice<BookResponse> searchSlice(String query, Pageable pageable) {
+        // The total is known once the postings are intersected, so it costs nothing to keep it
+        return search(query, pageable);
+    }
+
+    @Override
+    public synchronized void load(Collection<BookView> views) {
+        // Built aside and published at once, so searches keep reading the previous index meanwhile
+        Index built = new Index();
+        views.forEach(view -> built.index(IndexedBook.fromView(view)));
+        index = built;
+    }
+
+    @Override
+    public synchronized void put(BookView view) {
+        IndexedBook previous = index.books.get(view.getId());
+        if (previous != null) {
+            index.unindex(previous);
+        }
+        index.index(IndexedBook.fromView(view));
+    }
+
+    @Override
+    public synchronized void remove(UUID bookId) {
+        IndexedBook previous = index.books.get(bookId);
+        if (previous != null) {
+            index.unindex(previous);
+        }
+    }
+
+    @Override
+    public synchronized void renameAuthor(UUID authorId, String name) {
+        for (IndexedBook book : List.copyOf(index.books.values())) {
+            if (book.authorId().equals(authorId)) {
+                index.unindex(book);
+                index.index(book.withAuthorName(name));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void removeAuthor(UUID authorId) {
+        for (IndexedBook book : List.copyOf(index.books.values())) {
+            if (book.authorId().equals(authorId)) {
+                index.unindex(book);
+            }
+        }
+    }
+
+    public int size() {
+        return index.books.size();
+    }
+
+    /**
+     * Postings and books of one load. Single updates change it in place under the engine lock, a load replaces it.
+     */
+    private static final class Index {
+
+        private final ConcurrentNavigableMap<String, Map<UUID, Integer>> postings = new ConcurrentSkipListMap<>();
+        private final Map<UUID, IndexedBook> books = new ConcurrentHashMap<>();
+
+        Map<UUID, Integer> match(String token) {
+            Map<UUID, Integer> matches = new HashMap<>();
+
+            Map<UUID, Integer> exact = postings.get(token);
+            if (exact != null) {
+                exact.forEach((id, weight) -> matches.put(id, weight * 2));
+            }
+
+            if (token.length() >= MIN_PREFIX_LENGTH) {
+                postings.subMap(token, false, token + Character.MAX_VALUE, false).values()
+                        .forEach(posting -> posting.forEach((id, weight) -> matches.merge(id, weight, Math::max)));
+            }
+
+            return matches;
+        }
+
+        void index(IndexedBook book) {
+            books.put(book.id(), book);
+            book.terms().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(book.id(), weight));
+        }
+
+        void unindex(IndexedBook book) {
+            books.remove(book.id());
+            book.terms().keySet().forEach(term -> postings.computeIfPresent(term, (t, posting) -> {
+                posting.remove(book.id());
+                return posting.isEmpty() ? null : posting;
+            }));
+        }
+
+    }
+
+    private record IndexedBook(UUID id, String name, String isbn, BigDecimal price, UUID authorId, String authorName) {
+
+        static IndexedBook fromView(BookView view) {
+            return new IndexedBook(
+                    view.getId(),
+                    view.getName(),
+                    view.getIsbn(),
+                    view.getPrice(),
+                    view.getAuthorId(),
+                    view.getAuthorName()
+            );
+        }
+
+        IndexedBook withAuthorName(String authorName) {
+            return new IndexedBook(id, name, isbn, price, authorId, authorName);
+        }
+
+        Map<String, Integer> terms() {
+            Map<String, Integer> terms = new HashMap<>();
+            TextNormalizer.tokenize(name).forEach(term -> terms.merge(term, NAME_WEIGHT, Math::max));
+            TextNormalizer.tokenize(authorName).forEach(term -> terms.merge(term, AUTHOR_WEIGHT, Math::max));
+
+            String compactIsbn = TextNormalizer.compactIsbn(isbn);
+            if (!compactIsbn.isEmpty()) {
+                terms.merge(compactIsbn, ISBN_WEIGHT, Math::max);
+            }
+            return terms;
+        }
+
+        BookResponse toResponse() {
+            return new BookResponse(id, name, price, authorName);
+        }
+
+    }
+
+    private record ScoredBook(IndexedBook book, int score) {
+
+        static final Comparator<ScoredBook> ORDER = Comparator.comparingInt(ScoredBook::score).reversed()
+                .thenComparing(scored -> scored.book().name(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(scored -> scored.book().id());
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.search.BooksSearchEngine;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "jpql")
+public class JpqlBooksSearchEngine implements BooksSearchEngine {
+
+    private final BooksViewRepository booksViewRepository;
+
+    @Autowired
+    public JpqlBooksSearchEngine(BooksViewRepository booksViewRepository) {
+        this.booksViewRepository = booksViewRepository;
+    }
+
+    @Override
+    public Page<BookResponse> search(String query, Pageable pageable) {
+        return booksViewRepository.search(query, pageable).map(BookResponse::fromBook);
+    }
+
+    @Override
+    public Slice<BookResponse> searchSlice(String query, Pageable pageable) {
+        return booksViewRepository.searchSlice(query, pageable).map(BookResponse::fromBook);
+    }
+
+}
@@ -0,0 +1,335 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.search.CatalogIndex;
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Prefix trie over book titles and author names used for typeahead. Keys start at each of the first
+ * {@value #MAX_KEY_WORDS} words of the text (so "hob" completes "The Hobbit", while a fifth or later word
+ * completes nothing) and are truncated to {@value #MAX_KEY_LENGTH} characters to keep the trie compact.
+ * Each node caches its best {@value #MAX_SUGGESTIONS} completions, so a lookup is a walk down the prefix plus
+ * a copy of that array. Books are weighted by publish date and authors by their most recent book.
+ */
+@Component
+public class SuggestionTrie implements CatalogIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int MAX_KEY_LENGTH = 24;
+    private static final int MAX_KEY_WORDS = 4;
+
+    private static final String BOOK = "book";
+    private static final String AUTHOR = "author";
+
+    private volatile Node root = new Node();
+
+    // Only touched under the lock, suggest reads the trie alone
+    private Map<UUID, Entry> books = new HashMap<>();
+    private Map<UUID, UUID> bookAuthors = new HashMap<>();
+    private Map<UUID, AuthorBooks> authors = new HashMap<>();
+
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        String key = String.join(" ", TextNormalizer.tokenize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), MAX_KEY_LENGTH) && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        boolean truncated = key.length() > MAX_KEY_LENGTH;
+        List<SuggestionResponse> suggestions = new ArrayList<>();
+        for (Entry entry : node.top) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            if (!truncated || entry.normalizedText().contains(key)) {
+                suggestions.add(new SuggestionResponse(entry.text(), entry.type(), entry.id()));
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public synchronized void load(Collection<BookView> views) {
+        // Built aside and published at once, so suggestions keep coming from the previous trie meanwhile
+        Node built = new Node();
+        books = new HashMap<>();
+        bookAuthors = new HashMap<>();
+        authors = new HashMap<>();
+        views.forEach(view -> putBook(built, view));
+        root = built;
+    }
+
+    @Override
+    public synchronized void put(BookView view) {
+        removeBook(root, view.getId());
+        putBook(root, view);
+    }
+
+    @Override
+    public synchronized void remove(UUID bookId) {
+        removeBook(root, bookId);
+    }
+
+    @Override
+    public synchronized void renameAuthor(UUID authorId, String name) {
+        AuthorBooks author = authors.get(authorId);
+        if (author == null || author.name.equals(name)) {
+            return;
+        }
+
+        Entry previous = author.entry();
+        author.name = name;
+        replace(root, previous, author.entry());
+    }
+
+    @Override
+    public synchronized void removeAuthor(UUID authorId) {
+        AuthorBooks author = authors.get(authorId);
+        if (author != null) {
+            List.copyOf(author.publishDays.keySet()).forEach(bookId -> removeBook(root, bookId));
+        }
+    }
+
+    private void putBook(Node root, BookView view) {
+        long weight = view.getPublishDate() == null ? 0 : view.getPublishDate().toEpochDay();
+
+        Entry entry = new Entry(BOOK, view.getId(), view.getName(), weight);
+        books.put(view.getId(), entry);
+        bookAuthors.put(view.getId(), view.getAuthorId());
+        insert(root, entry);
+
+        AuthorBooks author = authors.get(view.getAuthorId());
+        if (author == null) {
+            author = new AuthorBooks(view.getAuthorId(), view.getAuthorName());
+            author.publishDays.put(view.getId(), weight);
+            authors.put(author.id, author);
+            insert(root, author.entry());
+            return;
+        }
+
+        Entry previous = author.entry();
+        author.name = view.getAuthorName();
+        author.publishDays.put(view.getId(), weight);
+        replace(root, previous, author.entry());
+    }
+
+    private void removeBook(Node root, UUID bookId) {
+        Entry entry = books.remove(bookId);
+        if (entry == null) {
+            return;
+        }
+        delete(root, entry);
+
+        AuthorBooks author = authors.get(bookAuthors.remove(bookId));
+        if (author == null) {
+            return;
+        }
+
+        Entry previous = author.entry();
+        author.publishDays.remove(bookId);
+        if (author.publishDays.isEmpty()) {
+            authors.remove(author.id);
+            delete(root, previous);
+        } else {
+            replace(root, previous, author.entry());
+        }
+    }
+
+    private void replace(Node root, Entry previous, Entry current) {
+        if (!previous.equals(current)) {
+            delete(root, previous);
+            insert(root, current);
+        }
+    }
+
+    private void insert(Node root, Entry entry) {
+        for (String key : keys(entry.normalizedText())) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            path.push(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.getOrCreateChild(key.charAt(i));
+                path.push(node);
+            }
+            node.terminals.add(entry);
+            path.forEach(Node::recomputeTop);
+        }
+    }
+
+    private void delete(Node root, Entry entry) {
+        for (String key : keys(entry.normalizedText())) {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            path.push(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+                if (node != null) {
+                    path.push(node);
+                }
+            }
+            if (node == null) {
+                continue;
+            }
+
+            node.terminals.remove(entry);
+            Node child = null;
+            for (Node current : path) {
+                if (child != null && child.isEmpty()) {
+                    current.removeChild(child.label);
+                }
+                current.recomputeTop();
+                child = current;
+            }
+        }
+    }
+
+    private static Set<String> keys(String normalizedText) {
+        Set<String> keys = new LinkedHashSet<>();
+        int words = 0;
+        for (int start = 0; start < normalizedText.length() && words < MAX_KEY_WORDS; words++) {
+            keys.add(normalizedText.substring(start, Math.min(normalizedText.length(), start + MAX_KEY_LENGTH)));
+            int next = normalizedText.indexOf(' ', start);
+            if (next < 0) {
+                break;
+            }
+            start = next + 1;
+        }
+        return keys;
+    }
+
+    private record Entry(String type, UUID id, String text, long weight) {
+
+        static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::weight).reversed()
+                .thenComparingInt(entry -> entry.text().length())
+                .thenComparing(Entry::text)
+                .thenComparing(Entry::id);
+
+        String normalizedText() {
+            return String.join(" ", TextNormalizer.tokenize(text));
+        }
+
+    }
+
+    private static final class AuthorBooks {
+
+        final UUID id;
+        final Map<UUID, Long> publishDays = new HashMap<>();
+        String name;
+
+        AuthorBooks(UUID id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        Entry entry() {
+            long weight = publishDays.values().stream().mapToLong(Long::longValue).max().orElse(0);
+            return new Entry(AUTHOR, id, name, weight);
+        }
+
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        final char label;
+        final List<Entry> terminals = new ArrayList<>(1);
+
+        // Replaced as a whole so lock-free readers never see a half-updated child list.
+        volatile Children children = new Children(NO_LABELS, NO_NODES);
+        volatile Entry[] top = NO_ENTRIES;
+
+        Node() {
+            this('\0');
+        }
+
+        Node(char label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.labels, c);
+            return index >= 0 ? current.nodes[index] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.labels, c);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] labels = new char[current.labels.length + 1];
+            Node[] nodes = new Node[current.nodes.length + 1];
+            System.arraycopy(current.labels, 0, labels, 0, insertAt);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertAt);
+            System.arraycopy(current.labels, insertAt, labels, insertAt + 1, current.labels.length - insertAt);
+            System.arraycopy(current.nodes, insertAt, nodes, insertAt + 1, current.nodes.length - insertAt);
+
+            Node node = new Node(c);
+            labels[insertAt] = c;
+            nodes[insertAt] = node;
+            children = new Children(labels, nodes);
+            return node;
+        }
+
+        void removeChild(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.labels, c);
+            if (index < 0) {
+                return;
+            }
+
+            char[] labels = new char[current.labels.length - 1];
+            Node[] nodes = new Node[current.nodes.length - 1];
+            System.arraycopy(current.labels, 0, labels, 0, index);
+            System.arraycopy(current.nodes, 0, nodes, 0, index);
+            System.arraycopy(current.labels, index + 1, labels, index, current.labels.length - index - 1);
+            System.arraycopy(current.nodes, index + 1, nodes, index, current.nodes.length - index - 1);
+            children = new Children(labels, nodes);
+        }
+
+        boolean isEmpty() {
+            return terminals.isEmpty() && children.nodes.length == 0;
+        }
+
+        void recomputeTop() {
+            Map<String, Entry> best = new HashMap<>();
+            terminals.forEach(entry -> best.merge(entry.type() + entry.id(), entry, Node::better));
+            for (Node node : children.nodes) {
+                for (Entry entry : node.top) {
+                    best.merge(entry.type() + entry.id(), entry, Node::better);
+                }
+            }
+
+            top = best.values().stream()
+                    .sorted(Entry.ORDER)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Entry[]::new);
+        }
+
+        private static Entry better(Entry a, Entry b) {
+            return Entry.ORDER.compare(a, b) <= 0 ? a : b;
+        }
+
+    }
+
+    private record Children(char[] labels, Node[] nodes) {
+    }
+
+}
@@ -0,0 +1,301 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.search.CatalogIndex;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typo tolerant search over book and author names. Candidates are books sharing enough character trigrams
+ * with the query; they are then re-ranked by a bounded edit distance (a swap of adjacent letters counts as one
+ * edit) between each query term and the closest word of the book, dropping books where some term is further
+ * than the allowed number of edits.
+ */
+@Component
+public class TrigramBooksIndex implements CatalogIndex {
+
+    private static final double MIN_GRAM_OVERLAP = 0.3;
+    private static final int MAX_CANDIDATES = 2000;
+    private static final int NAME_BONUS = 1;
+
+    private volatile Index index = new Index();
+
+    public Page<BookResponse> search(String query, Pageable pageable) {
+        Index index = this.index;
+        List<String> terms = TextNormalizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Set<String> queryGrams = new HashSet<>();
+        terms.forEach(term -> queryGrams.addAll(trigrams(term)));
+
+        Map<UUID, Integer> hits = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<UUID> posting = index.grams.get(gram);
+            if (posting != null) {
+                posting.forEach(id -> hits.merge(id, 1, Integer::sum));
+            }
+        }
+
+        int minHits = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_GRAM_OVERLAP));
+        List<Map.Entry<UUID, Integer>> candidates = hits.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minHits)
+                .sorted(Map.Entry.<UUID, Integer>comparingByValue().reversed())
+                .limit(MAX_CANDIDATES)
+                .toList();
+
+        List<ScoredBook> ranked = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> candidate : candidates) {
+            IndexedBook book = index.books.get(candidate.getKey());
+            if (book == null) {
+                continue;
+            }
+
+            int score = score(terms, book);
+            if (score > 0) {
+                ranked.add(new ScoredBook(book, score, candidate.getValue()));
+            }
+        }
+        ranked.sort(ScoredBook.ORDER);
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+
+        List<BookResponse> content = ranked.subList(from, to).stream()
+                .map(scored -> scored.book().toResponse())
+                .toList();
+
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    @Override
+    public synchronized void load(Collection<BookView> views) {
+        // Built aside and published at once, so searches keep reading the previous index meanwhile
+        Index built = new Index();
+        views.forEach(view -> built.index(IndexedBook.fromView(view)));
+        index = built;
+    }
+
+    @Override
+    public synchronized void put(BookView view) {
+        IndexedBook previous = index.books.get(view.getId());
+        if (previous != null) {
+            index.unindex(previous);
+        }
+        index.index(IndexedBook.fromView(view));
+    }
+
+    @Override
+    public synchronized void remove(UUID bookId) {
+        IndexedBook previous = index.books.get(bookId);
+        if (previous != null) {
+            index.unindex(previous);
+        }
+    }
+
+    @Override
+    public synchronized void renameAuthor(UUID authorId, String name) {
+        for (IndexedBook book : List.copyOf(index.books.values())) {
+            if (book.authorId().equals(authorId)) {
+                index.unindex(book);
+                index.index(book.withAuthorName(name));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void removeAuthor(UUID authorId) {
+        for (IndexedBook book : List.copyOf(index.books.values())) {
+            if (book.authorId().equals(authorId)) {
+                index.unindex(book);
+            }
+        }
+    }
+
+    /**
+     * Sums, for every query term, how many edits were left unused when matching it against the closest name or
+     * author word; returns 0 when some term matches nothing within its edit budget.
+     */
+    private static int score(List<String> terms, IndexedBook book) {
+        int score = 0;
+        for (String term : terms) {
+            int budget = maxEdits(term);
+
+            int best = Integer.MAX_VALUE;
+            int bonus = 0;
+            for (String word : book.nameWords()) {
+                int distance = distance(term, word, budget);
+                if (distance < best) {
+                    best = distance;
+                    bonus = NAME_BONUS;
+                }
+            }
+            for (String word : book.authorWords()) {
+                int distance = distance(term, word, budget);
+                if (distance < best) {
+                    best = distance;
+                    bonus = 0;
+                }
+            }
+
+            if (best > budget) {
+                return 0;
+            }
+            score += budget + 1 - best + bonus;
+        }
+        return score;
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Distance between the term and the word, or between the term and a prefix of the word of the same length
+     * when that is closer, so partially typed words still match.
+     */
+    private static int distance(String term, String word, int budget) {
+        int distance = boundedLevenshtein(term, word, budget);
+        if (distance > 0 && term.length() >= 3 && word.length() > term.length()) {
+            distance = Math.min(distance, boundedLevenshtein(term, word.substring(0, term.length()), budget));
+        }
+        return distance;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions), capped at budget + 1.
+     */
+    static int boundedLevenshtein(String a, String b, int budget) {
+        if (Math.abs(a.length() - b.length()) > budget) {
+            return budget + 1;
+        }
+
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        int previousRowMin = 0;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > budget && previousRowMin > budget) {
+                return budget + 1;
+            }
+            previousRowMin = rowMin;
+
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[b.length()], budget + 1);
+    }
+
+    static Set<String> trigrams(String word) {
+        String padded = "$" + word + "$";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        if (padded.length() < 3) {
+            trigrams.add(padded);
+        }
+        return trigrams;
+    }
+
+    /**
+     * Trigram postings and books of one load. Single updates change it in place under the index lock, a load
+     * replaces it.
+     */
+    private static final class Index {
+
+        private final Map<String, Set<UUID>> grams = new ConcurrentHashMap<>();
+        private final Map<UUID, IndexedBook> books = new ConcurrentHashMap<>();
+
+        void index(IndexedBook book) {
+            books.put(book.id(), book);
+            book.grams().forEach(gram -> grams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(book.id()));
+        }
+
+        void unindex(IndexedBook book) {
+            books.remove(book.id());
+            book.grams().forEach(gram -> grams.computeIfPresent(gram, (g, posting) -> {
+                posting.remove(book.id());
+                return posting.isEmpty() ? null : posting;
+            }));
+        }
+
+    }
+
+    private record IndexedBook(
+            UUID id,
+            String name,
+            BigDecimal price,
+            UUID authorId,
+            String authorName,
+            List<String> nameWords,
+            List<String> authorWords
+    ) {
+
+        static IndexedBook fromView(BookView view) {
+            return new IndexedBook(
+                    view.getId(),
+                    view.getName(),
+                    view.getPrice(),
+                    view.getAuthorId(),
+                    view.getAuthorName(),
+                    TextNormalizer.tokenize(view.getName()),
+                    TextNormalizer.tokenize(view.getAuthorName())
+            );
+        }
+
+        IndexedBook withAuthorName(String authorName) {
+            return new IndexedBook(id, name, price, authorId, authorName, nameWords, TextNormalizer.tokenize(authorName));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            nameWords.forEach(word -> grams.addAll(trigrams(word)));
+            authorWords.forEach(word -> grams.addAll(trigrams(word)));
+            return grams;
+        }
+
+        BookResponse toResponse() {
+            return new BookResponse(id, name, price, authorName);
+        }
+
+    }
+
+    private record ScoredBook(IndexedBook book, int score, int hits) {
+
+        static final Comparator<ScoredBook> ORDER = Comparator.comparingInt(ScoredBook::score).reversed()
+                .thenComparing(Comparator.comparingInt(ScoredBook::hits).reversed())
+                .thenComparing(scored -> scored.book().name(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(scored -> scored.book().id());
+
+    }
+
+}
@@ -2,18 +2,29 @@ package com.bookstore.catalog.infra.services;
 
 import com.bookstore.catalog.application.repositories.AuthorsRepository;
 import com.bookstore.catalog.application.services.AuthorsService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.author.CreateAuthorRequest;
 import com.bookstore.catalog.domain.dtos.author.UpdateAuthorRequest;
 import com.bookstore.catalog.domain.dtos.author.AuthorDetailsResponse;
 import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
 import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.events.AuthorDeletedEvent;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
 import com.bookstore.catalog.domain.exceptions.NotFoundException;
+import com.bookstore.catalog.infra.cache.ListPageCache;
+import com.bookstore.catalog.infra.http.ETags;
+import com.bookstore.catalog.infra.pagination.ApproximateCounts;
+import com.bookstore.catalog.infra.pagination.KeysetCursor;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.util.UUID;
@@ -22,10 +33,21 @@ import java.util.UUID;
 public class AuthorsServiceImpl implements AuthorsService {
 
     private final AuthorsRepository authorsRepository;
+    private final ApproximateCounts approximateCounts;
+    private final ListPageCache listPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AuthorsServiceImpl(AuthorsRepository authorsRepository) {
+    public AuthorsServiceImpl(
+            AuthorsRepository authorsRepository,
+            ApproximateCounts approximateCounts,
+            ListPageCache listPageCache,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.authorsRepository = authorsRepository;
+        this.approximateCounts = approximateCounts;
+        this.listPageCache = listPageCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -35,6 +57,7 @@ public class AuthorsServiceImpl implements AuthorsService {
 
         author.setId(null);
         author = authorsRepository.save(author);
+        eventPublisher.publishEvent(new AuthorSavedEvent(author.getId(), author.getName(), true));
 
         var response = new CreateAuthorRequest(author.getId(), author.getName(), author.getBiography());
 
@@ -42,7 +65,19 @@ public class AuthorsServiceImpl implements AuthorsService {
     }
 
     @Override
-    public ResponseEntity<AuthorDetailsResponse> getAuthor(UUID id) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<AuthorDetailsResponse> getAuthor(UUID id, String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Long version = authorsRepository.findVersionById(id).orElse(null);
+            if (version == null) {
+                throw new NotFoundException("Author " + id + " not found");
+            }
+
+            if (ETags.matches(ifNoneMatch, ETags.of(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(version)).build();
+            }
+        }
+
         Author author = authorsRepository.findById(id).orElse(null);
         if (author == null) {
             throw new NotFoundException("Author " + id + " not found");
@@ -50,17 +85,16 @@ public class AuthorsServiceImpl implements AuthorsService {
 
         var response = new AuthorDetailsResponse(author.getId(), author.getName(), author.getBiography());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.of(author.getVersion())).body(response);
     }
 
     @Override
     public ResponseEntity<Void> deleteAuthor(UUID id) {
-        Author author = authorsRepository.findById(id).orElse(null);
-        if (author == null) {
+        if (authorsRepository.deleteDirectlyById(id) == 0) {
             throw new NotFoundException("Author " + id + " not found");
         }
 
-        authorsRepository.delete(author);
+        eventPublisher.publishEvent(new AuthorDeletedEvent(id));
 
         return ResponseEntity.noContent().build();
     }
@@ -79,6 +113,7 @@ public class AuthorsServiceImpl implements AuthorsService {
             author.setBiography(body.biography());
 
         authorsRepository.save(author);
+        eventPublisher.publishEvent(new AuthorSavedEvent(author.getId(), author.getName(), false));
 
         var response = new AuthorDetailsResponse(author.getId(), author.getName(), author.getBiography());
 
@@ -86,9 +121,30 @@ public class AuthorsServiceImpl implements AuthorsService {
     }
 
     @Override
-    public ResponseEntity<Page<AuthorResponse>> listAll(int pageIndex) {
-        Page<Author> authors = authorsRepository.findAll(PageRequest.of(pageIndex, 10));
-        return ResponseEntity.ok(authors.map(AuthorResponse::fromAuthor));
+    @Transactional(readOnly = true)
+    public ResponseEntity<Slice<AuthorResponse>> listAll(int pageIndex, TotalMode total) {
+        return ResponseEntity.ok(listPageCache.get(ListPageCache.AUTHORS, pageIndex, total, () -> {
+            PageRequest pageable = PageRequest.of(pageIndex, 10);
+            Slice<Author> authors = switch (total) {
+                case EXACT -> authorsRepository.findAll(pageable);
+                case APPROXIMATE -> approximateCounts.authors(authorsRepository.findAllBy(pageable));
+                case NONE -> authorsRepository.findAllBy(pageable);
+            };
+            return authors.map(AuthorResponse::fromAuthor);
+        }));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<AuthorResponse>> listAfter(String cursor) {
+        return ResponseEntity.ok(KeysetCursor.page(
+                cursor,
+                authorsRepository::findKeysetFirst,
+                authorsRepository::findKeysetAfter,
+                Author::getName,
+                Author::getId,
+                AuthorResponse::fromAuthor
+        ));
     }
 
 }
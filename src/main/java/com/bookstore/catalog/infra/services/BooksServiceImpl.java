@@ -1,51 +1,129 @@
 package com.bookstore.catalog.infra.services;
 
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
 import com.bookstore.catalog.application.repositories.books.BooksRepository;
 import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
 import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
 import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.application.search.BooksSearchEngine;
 import com.bookstore.catalog.application.services.BooksService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.dtos.books.BookLookupResponse;
 import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.dtos.books.BooksBatchRequest;
+import com.bookstore.catalog.domain.dtos.books.BookVersion;
 import com.bookstore.catalog.domain.dtos.books.CreateBookRequest;
+import com.bookstore.catalog.domain.dtos.books.IsbnsBatchRequest;
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
 import com.bookstore.catalog.domain.dtos.books.UpdateBookRequest;
+import com.bookstore.catalog.domain.dtos.genre.BookGenresRequest;
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import com.bookstore.catalog.domain.entities.author.Author;
 import com.bookstore.catalog.domain.entities.books.Book;
 import com.bookstore.catalog.domain.entities.books.BookView;
 import com.bookstore.catalog.domain.entities.genres.BookGenre;
-import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
 import com.bookstore.catalog.domain.exceptions.ConflictException;
 import com.bookstore.catalog.domain.exceptions.NotFoundException;
+import com.bookstore.catalog.infra.cache.BookDetailsCache;
+import com.bookstore.catalog.infra.cache.GenreCatalog;
+import com.bookstore.catalog.infra.cache.ListPageCache;
+import com.bookstore.catalog.infra.export.BooksExporter;
+import com.bookstore.catalog.infra.http.ETags;
+import com.bookstore.catalog.infra.imports.BooksImporter;
+import com.bookstore.catalog.infra.pagination.ApproximateCounts;
+import com.bookstore.catalog.infra.pagination.KeysetCursor;
+import com.bookstore.catalog.infra.persistence.BookGenresWriter;
+import com.bookstore.catalog.infra.persistence.ConstraintViolations;
+import com.bookstore.catalog.infra.search.SuggestionTrie;
+import com.bookstore.catalog.infra.search.TrigramBooksIndex;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class BooksServiceImpl implements BooksService {
 
     private final BooksRepository booksRepository;
+    private final AuthorsRepository authorsRepository;
     private final BooksViewRepository booksViewRepository;
     private final GenresRepository genresRepository;
     private final BooksGenresRepository booksGenresRepository;
+    private final BooksSearchEngine booksSearchEngine;
+    private final SuggestionTrie suggestionTrie;
+    private final TrigramBooksIndex trigramBooksIndex;
+    private final ApproximateCounts approximateCounts;
+    private final ListPageCache listPageCache;
+    private final BooksExporter booksExporter;
+    private final BooksImporter booksImporter;
+    private final BookDetailsCache bookDetailsCache;
+    private final GenreCatalog genreCatalog;
+    private final BookGenresWriter bookGenresWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public BooksServiceImpl(
             BooksRepository booksRepository,
+            AuthorsRepository authorsRepository,
             BooksViewRepository booksViewRepository,
             GenresRepository genresRepository,
-            BooksGenresRepository booksGenresRepository
+            BooksGenresRepository booksGenresRepository,
+            BooksSearchEngine booksSearchEngine,
+            SuggestionTrie suggestionTrie,
+            TrigramBooksIndex trigramBooksIndex,
+            ApproximateCounts approximateCounts,
+            ListPageCache listPageCache,
+            BooksExporter booksExporter,
+            BooksImporter booksImporter,
+            BookDetailsCache bookDetailsCache,
+            GenreCatalog genreCatalog,
+            BookGenresWriter bookGenresWriter,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.booksRepository = booksRepository;
+        this.authorsRepository = authorsRepository;
         this.booksViewRepository = booksViewRepository;
         this.genresRepository = genresRepository;
         this.booksGenresRepository = booksGenresRepository;
+        this.booksSearchEngine = booksSearchEngine;
+        this.suggestionTrie = suggestionTrie;
+        this.trigramBooksIndex = trigramBooksIndex;
+        this.approximateCounts = approximateCounts;
+        this.listPageCache = listPageCache;
+        this.booksExporter = booksExporter;
+        this.booksImporter = booksImporter;
+        this.bookDetailsCache = bookDetailsCache;
+        this.genreCatalog = genreCatalog;
+        this.bookGenresWriter = bookGenresWriter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -53,17 +131,14 @@ public class BooksServiceImpl implements BooksService {
         Book book = new Book();
         BeanUtils.copyProperties(body, book);
 
-        if (booksRepository.findByIsbn(body.isbn()).isPresent()) {
-            throw new ConflictException("Already exists a book with this isbn", "isbn");
-        }
-
-        Author author = new Author();
-        author.setId(body.authorId());
+        // A reference is enough, the foreign key checks that the author exists
+        Author author = authorsRepository.getReferenceById(body.authorId());
 
         book.setId(null);
         book.setAuthor(author);
 
-        book = booksRepository.save(book);
+        book = saveAndFlush(book);
+        eventPublisher.publishEvent(new BookSavedEvent(book.getId(), true));
 
         var response = new CreateBookRequest(
                 book.getId(),
@@ -72,55 +147,154 @@ public class BooksServiceImpl implements BooksService {
                 book.getIsbn(),
                 book.getPrice(),
                 book.getPublishDate(),
-                author.getId()
+                body.authorId()
         );
 
         return ResponseEntity.created(URI.create("/api/v1/books/" + response.id())).body(response);
     }
 
     @Override
-    public ResponseEntity<BookDetailsResponse> getBook(UUID id) {
-        BookView book = booksViewRepository.findById(id).orElse(null);
-        if (book == null) {
-            throw new NotFoundException("Book " + id + " not found");
+    public ResponseEntity<BookImportResponse> importBooks(InputStream body) {
+        return ResponseEntity.ok(booksImporter.importBooks(body));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<BookDetailsResponse> getBook(UUID id, String ifNoneMatch) {
+        BookVersion version = null;
+        if (ifNoneMatch != null) {
+            version = booksRepository.findVersionById(id).orElse(null);
+            if (version == null) {
+                throw new NotFoundException("Book " + id + " not found");
+            }
+
+            if (ETags.matches(ifNoneMatch, etag(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag(version)).build();
+            }
         }
 
-        var genres = booksGenresRepository.findByBookId(id).stream()
-                .map(BookGenre::getGenre)
-                .collect(Collectors.toSet());
+        // The version read for the conditional request is reused when the cache misses
+        BookVersion knownVersion = version;
+        BookDetailsCache.Entry entry = bookDetailsCache.get(id, key -> loadEntry(
+                knownVersion != null ? Optional.of(knownVersion) : booksRepository.findVersionById(key),
+                () -> booksViewRepository.findById(key)));
+        if (entry == null) {
+            throw new NotFoundException("Book " + id + " not found");
+        }
 
-        return ResponseEntity.ok(BookDetailsResponse.fromBook(book, genres));
+        return ResponseEntity.ok().eTag(entry.etag()).body(entry.details());
     }
 
     @Override
-    public ResponseEntity<BookDetailsResponse> getBookFromIsbn(String isbn) {
-        BookView book = booksViewRepository.findByIsbn(isbn).orElse(null);
-        if (book == null) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<BookDetailsResponse> getBookFromIsbn(String isbn, String ifNoneMatch) {
+        BookVersion version = null;
+        if (ifNoneMatch != null) {
+            version = booksRepository.findVersionByIsbn(isbn).orElse(null);
+            if (version == null) {
+                throw new NotFoundException("Book with isbn " + isbn + " not found");
+            }
+
+            if (ETags.matches(ifNoneMatch, etag(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag(version)).build();
+            }
+        }
+
+        BookVersion knownVersion = version;
+        BookDetailsCache.Entry entry = bookDetailsCache.getByIsbn(isbn, key -> loadEntry(
+                knownVersion != null ? Optional.of(knownVersion) : booksRepository.findVersionByIsbn(key),
+                () -> booksViewRepository.findByIsbn(key)));
+        if (entry == null) {
             throw new NotFoundException("Book with isbn " + isbn + " not found");
         }
 
-        var genres = booksGenresRepository.findByBookId(book.getId()).stream()
-                .map(BookGenre::getGenre)
-                .collect(Collectors.toSet());
+        return ResponseEntity.ok().eTag(entry.etag()).body(entry.details());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BookLookupResponse>> getBooks(BooksBatchRequest body) {
+        Map<UUID, BookDetailsCache.Entry> entries = bookDetailsCache.getAll(body.ids(), ids -> loadEntries(
+                booksRepository.findVersionsByIdIn(ids),
+                () -> booksViewRepository.findByIdIn(ids)));
+
+        List<BookLookupResponse> response = body.ids().stream()
+                .map(id -> BookLookupResponse.of(id.toString(), details(entries.get(id))))
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<BookLookupResponse>> getBooksFromIsbns(IsbnsBatchRequest body) {
+        Map<String, BookDetailsCache.Entry> entries = bookDetailsCache.getAllByIsbn(body.isbns(), isbns -> {
+            Map<String, BookDetailsCache.Entry> byIsbn = new HashMap<>();
+            loadEntries(booksRepository.findVersionsByIsbnIn(isbns), () -> booksViewRepository.findByIsbnIn(isbns))
+                    .values()
+                    .forEach(entry -> byIsbn.put(entry.details().isbn(), entry));
+            return byIsbn;
+        });
+
+        List<BookLookupResponse> response = body.isbns().stream()
+                .map(isbn -> BookLookupResponse.of(isbn, details(entries.get(isbn))))
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    private static BookDetailsResponse details(BookDetailsCache.Entry entry) {
+        return entry == null ? null : entry.details();
+    }
+
+    /**
+     * Batch counterpart of {@link #loadEntry}, the details are only read when at least one of the books exists.
+     */
+    private Map<UUID, BookDetailsCache.Entry> loadEntries(List<BookVersion> versions, Supplier<List<BookView>> books) {
+        if (versions.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, BookView> booksById = books.get().stream()
+                .collect(Collectors.toMap(BookView::getId, Function.identity()));
 
-        return ResponseEntity.ok(BookDetailsResponse.fromBook(book, genres));
+        Map<UUID, BookDetailsCache.Entry> entries = new HashMap<>();
+        for (BookVersion version : versions) {
+            BookView book = booksById.get(version.id());
+            if (book != null) {
+                entries.put(version.id(), new BookDetailsCache.Entry(etag(version), BookDetailsResponse.fromBook(book)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * The version is read before the details, so a write in between leaves an older tag on newer details,
+     * which only costs the client one more full response.
+     */
+    private BookDetailsCache.Entry loadEntry(Optional<BookVersion> version, Supplier<Optional<BookView>> book) {
+        return version.flatMap(v -> book.get()
+                .map(details -> new BookDetailsCache.Entry(etag(v), BookDetailsResponse.fromBook(details))))
+                .orElse(null);
+    }
+
+    private static String etag(BookVersion version) {
+        return ETags.of(version.bookVersion(), version.authorVersion(), version.genres(), version.genresVersion());
     }
 
     @Override
     public ResponseEntity<Void> deleteBook(UUID id) {
-        Book book = booksRepository.findById(id).orElse(null);
-        if (book == null) {
+        if (booksRepository.deleteDirectlyById(id) == 0) {
             throw new NotFoundException("Book " + id + " not found");
         }
 
-        booksRepository.delete(book);
+        eventPublisher.publishEvent(new BookDeletedEvent(id));
 
         return ResponseEntity.noContent().build();
     }
 
     @Override
+    @Transactional
     public ResponseEntity<BookDetailsResponse> updateBook(UUID id, UpdateBookRequest body) {
-        Book book = booksRepository.findById(id).orElse(null);
+        Book book = booksRepository.findWithAuthorAndGenresById(id).orElse(null);
         if (book == null) {
             throw new NotFoundException("Book " + id + " not found");
         }
@@ -131,12 +305,8 @@ public class BooksServiceImpl implements BooksService {
         if (!body.brief().isBlank())
             book.setBrief(body.brief());
 
-        if (!body.isbn().isBlank() && !body.isbn().equals(book.getIsbn())) {
-            if (booksRepository.findByIsbn(body.isbn()).isPresent()) {
-                throw new ConflictException("Already exists a book with this isbn", "isbn");
-            }
+        if (!body.isbn().isBlank())
             book.setIsbn(body.isbn());
-        }
 
         if (body.price() != null)
             book.setPrice(body.price());
@@ -144,38 +314,76 @@ public class BooksServiceImpl implements BooksService {
         if (body.publishDate() != null)
             book.setPublishDate(body.publishDate());
 
-        booksRepository.save(book);
+        saveAndFlush(book);
+        eventPublisher.publishEvent(new BookSavedEvent(id, false));
 
         return ResponseEntity.ok(BookDetailsResponse.fromBook(book));
     }
 
+    /**
+     * Writes the book right away so a duplicate ISBN surfaces here. The unique constraint is the only check,
+     * which takes no extra query and also holds for concurrent writes.
+     */
+    private Book saveAndFlush(Book book) {
+        try {
+            return booksRepository.saveAndFlush(book);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Book.ISBN_CONSTRAINT)) {
+                throw new ConflictException("Already exists a book with this isbn", "isbn");
+            }
+            if (ConstraintViolations.isViolationOf(e, Book.AUTHOR_CONSTRAINT)) {
+                throw new NotFoundException("Author " + book.getAuthor().getId() + " not found", "author");
+            }
+            throw e;
+        }
+    }
+
     @Override
-    public ResponseEntity<Page<BookResponse>> listAll(int pageIndex) {
-        Page<BookView> books = booksViewRepository.findAll(PageRequest.of(pageIndex, 10));
-        return ResponseEntity.ok(books.map(BookResponse::fromBook));
+    @Transactional(readOnly = true)
+    public ResponseEntity<Slice<BookResponse>> listAll(int pageIndex, TotalMode total) {
+        return ResponseEntity.ok(listPageCache.get(ListPageCache.BOOKS, pageIndex, total, () -> {
+            PageRequest pageable = PageRequest.of(pageIndex, 10);
+            Slice<BookView> books = switch (total) {
+                case EXACT -> booksViewRepository.findAll(pageable);
+                case APPROXIMATE -> approximateCounts.books(booksViewRepository.findAllBy(pageable));
+                case NONE -> booksViewRepository.findAllBy(pageable);
+            };
+            return books.map(BookResponse::fromBook);
+        }));
     }
 
     @Override
-    public ResponseEntity<Void> addBookGenre(UUID bookId, UUID genreId) {
-        Book book = booksRepository.findById(bookId).orElse(null);
-        if (book == null) {
-            throw new NotFoundException("Book " + bookId + " not found", "book");
-        }
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<BookResponse>> listAfter(String cursor) {
+        return ResponseEntity.ok(KeysetCursor.page(
+                cursor,
+                booksViewRepository::findKeysetFirst,
+                booksViewRepository::findKeysetAfter,
+                BookView::getName,
+                BookView::getId,
+                BookResponse::fromBook
+        ));
+    }
 
-        Genre genre = genresRepository.findById(genreId).orElse(null);
-        if (genre == null) {
-            throw new NotFoundException("Genre " + genreId + " not found", "genre");
-        }
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(Instant updatedSince) {
+        StreamingResponseBody body = out -> booksExporter.export(updatedSince, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
-        if (booksGenresRepository.findByBookIdAndGenreId(bookId, genreId).isPresent()) {
+    @Override
+    public ResponseEntity<Void> addBookGenre(UUID bookId, UUID genreId) {
+        if (booksGenresRepository.attach(bookId, genreId) == 0) {
+            if (!booksRepository.existsById(bookId)) {
+                throw new NotFoundException("Book " + bookId + " not found", "book");
+            }
+            if (!genresRepository.existsById(genreId)) {
+                throw new NotFoundException("Genre " + genreId + " not found", "genre");
+            }
             throw new ConflictException("Already exists an genre attached in this book", "genre");
         }
 
-        BookGenre bookGenre = new BookGenre();
-        bookGenre.setBook(book);
-        bookGenre.setGenre(genre);
-
-        booksGenresRepository.save(bookGenre);
+        eventPublisher.publishEvent(new BookGenresChangedEvent(bookId));
 
         return ResponseEntity.noContent().build();
     }
@@ -188,14 +396,75 @@ public class BooksServiceImpl implements BooksService {
         }
 
         booksGenresRepository.delete(bookGenre);
+        eventPublisher.publishEvent(new BookGenresChangedEvent(bookId));
 
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<Page<BookResponse>> search(String query, int pageIndex) {
-        Page<BookView> books = booksViewRepository.search(query, PageRequest.of(pageIndex, 10));
-        return ResponseEntity.ok(books.map(BookResponse::fromBook));
+    @Transactional
+    public ResponseEntity<List<GenreResponse>> setBookGenres(UUID bookId, BookGenresRequest body) {
+        GenreCatalog.Snapshot genres = genreCatalog.snapshot();
+        if (!body.genreIds().stream().allMatch(genres::contains)) {
+            // A genre created a moment ago may not be in the snapshot yet
+            genres = genreCatalog.reload();
+        }
+        for (UUID genreId : body.genreIds()) {
+            if (!genres.contains(genreId)) {
+                throw new NotFoundException("Genre " + genreId + " not found", "genre");
+            }
+        }
+
+        BookGenresWriter.Changes changes;
+        try {
+            changes = bookGenresWriter.replace(bookId, body.genreIds());
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, BookGenre.BOOK_CONSTRAINT)) {
+                throw new NotFoundException("Book " + bookId + " not found", "book");
+            }
+            if (ConstraintViolations.isViolationOf(e, BookGenre.GENRE_CONSTRAINT)) {
+                throw new NotFoundException("One of the genres was deleted meanwhile", "genre");
+            }
+            throw e;
+        }
+
+        // Without genres to insert nothing has touched the book row, so a missing book has to be looked up
+        if (body.genreIds().isEmpty() && !changes.any() && !booksRepository.existsById(bookId)) {
+            throw new NotFoundException("Book " + bookId + " not found", "book");
+        }
+
+        if (changes.any()) {
+            eventPublisher.publishEvent(new BookGenresChangedEvent(bookId));
+        }
+
+        List<GenreResponse> response = genres.genres().stream()
+                .filter(genre -> body.genreIds().contains(genre.id()))
+                .map(GenreEntry::toResponse)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<Slice<BookResponse>> search(String query, int pageIndex, TotalMode total) {
+        PageRequest pageable = PageRequest.of(pageIndex, 10);
+        if (total == TotalMode.EXACT) {
+            return ResponseEntity.ok(booksSearchEngine.search(query, pageable));
+        }
+
+        // No cached count can stand for the number of matches, approximate totals skip the count like none
+        return ResponseEntity.ok(booksSearchEngine.searchSlice(query, pageable));
+    }
+
+    @Override
+    public ResponseEntity<Page<BookResponse>> fuzzySearch(String query, int pageIndex) {
+        return ResponseEntity.ok(trigramBooksIndex.search(query, PageRequest.of(pageIndex, 10)));
+    }
+
+    @Override
+    public ResponseEntity<List<SuggestionResponse>> suggest(String prefix, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, SuggestionTrie.MAX_SUGGESTIONS));
+        return ResponseEntity.ok(suggestionTrie.suggest(prefix, boundedLimit));
     }
 
 }
@@ -2,28 +2,50 @@ package com.bookstore.catalog.infra.services;
 
 import com.bookstore.catalog.application.repositories.genres.GenresRepository;
 import com.bookstore.catalog.application.services.GenresService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
 import com.bookstore.catalog.domain.dtos.genre.GenreRequest;
 import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
 import com.bookstore.catalog.domain.exceptions.NotFoundException;
+import com.bookstore.catalog.infra.cache.GenreCatalog;
+import com.bookstore.catalog.infra.http.ETags;
+import com.bookstore.catalog.infra.pagination.KeysetCursor;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class GenresServiceImpl implements GenresService {
 
     private final GenresRepository genresRepository;
+    private final GenreCatalog genreCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public GenresServiceImpl(GenresRepository genresRepository) {
+    public GenresServiceImpl(
+            GenresRepository genresRepository,
+            GenreCatalog genreCatalog,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.genresRepository = genresRepository;
+        this.genreCatalog = genreCatalog;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -33,6 +55,7 @@ public class GenresServiceImpl implements GenresService {
 
         genre.setId(null);
         genre = genresRepository.save(genre);
+        eventPublisher.publishEvent(new GenreSavedEvent(genre.getId(), genre.getName(), true));
 
         var response = new GenreRequest(genre.getId(), genre.getName());
 
@@ -40,23 +63,27 @@ public class GenresServiceImpl implements GenresService {
     }
 
     @Override
-    public ResponseEntity<GenreResponse> getGenre(UUID id) {
-        Genre genre = genresRepository.findById(id).orElse(null);
+    public ResponseEntity<GenreResponse> getGenre(UUID id, String ifNoneMatch) {
+        GenreEntry genre = genreCatalog.snapshot().find(id);
         if (genre == null) {
             throw new NotFoundException("Genre " + id + " not found");
         }
 
-        return ResponseEntity.ok(new GenreResponse(genre.getId(), genre.getName()));
+        String etag = ETags.of(genre.version());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(genre.toResponse());
     }
 
     @Override
     public ResponseEntity<Void> deleteGenre(UUID id) {
-        Genre genre = genresRepository.findById(id).orElse(null);
-        if (genre == null) {
+        if (genresRepository.deleteDirectlyById(id) == 0) {
             throw new NotFoundException("Genre " + id + " not found");
         }
 
-        genresRepository.delete(genre);
+        eventPublisher.publishEvent(new GenreDeletedEvent(id));
 
         return ResponseEntity.noContent().build();
     }
@@ -72,14 +99,45 @@ public class GenresServiceImpl implements GenresService {
             genre.setName(body.name());
 
         genresRepository.save(genre);
+        eventPublisher.publishEvent(new GenreSavedEvent(genre.getId(), genre.getName(), false));
 
         return ResponseEntity.ok(new GenreResponse(genre.getId(), genre.getName()));
     }
 
     @Override
-    public ResponseEntity<Page<GenreResponse>> listAll(int pageIndex) {
-        Page<Genre> genres = genresRepository.findAll(PageRequest.of(pageIndex, 10));
-        return ResponseEntity.ok(genres.map(GenreResponse::fromGenre));
+    public ResponseEntity<Slice<GenreResponse>> listAll(int pageIndex, TotalMode total, String ifNoneMatch) {
+        PageRequest pageable = PageRequest.of(pageIndex, 10);
+        GenreCatalog.Snapshot snapshot = genreCatalog.snapshot();
+
+        String etag = ETags.of(snapshot.version());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        List<GenreEntry> genres = snapshot.genres();
+        int from = (int) Math.min(pageable.getOffset(), genres.size());
+        int to = Math.min(from + pageable.getPageSize(), genres.size());
+        List<GenreResponse> content = genres.subList(from, to).stream().map(GenreEntry::toResponse).toList();
+
+        // The snapshot knows the exact total for free, only none keeps leaving it out
+        Slice<GenreResponse> page = total == TotalMode.NONE
+                ? new SliceImpl<>(content, pageable, to < genres.size())
+                : new PageImpl<>(content, pageable, genres.size());
+
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<CursorPage<GenreResponse>> listAfter(String cursor) {
+        return ResponseEntity.ok(KeysetCursor.page(
+                cursor,
+                genresRepository::findKeysetFirst,
+                genresRepository::findKeysetAfter,
+                Genre::getName,
+                Genre::getId,
+                GenreResponse::fromGenre
+        ));
     }
 
 }
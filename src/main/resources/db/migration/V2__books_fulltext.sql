@@ -0,0 +1,44 @@
+ALTER TABLE books.books ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION books.books_search_vector(book_name TEXT, book_brief TEXT, author_name TEXT)
+RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(book_name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(author_name, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(book_brief, '')), 'C');
+$$ LANGUAGE SQL IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION books.books_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := books.books_search_vector(
+        NEW.name,
+        NEW.brief,
+        (SELECT au.name FROM books.authors au WHERE au.id = NEW.author_id)
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_books_search_vector
+    BEFORE INSERT OR UPDATE OF name, brief, author_id ON books.books
+    FOR EACH ROW EXECUTE FUNCTION books.books_refresh_search_vector();
+
+CREATE OR REPLACE FUNCTION books.authors_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE books.books b
+    SET search_vector = books.books_search_vector(b.name, b.brief, NEW.name)
+    WHERE b.author_id = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_authors_search_vector
+    AFTER UPDATE OF name ON books.authors
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION books.authors_refresh_search_vector();
+
+UPDATE books.books b
+SET search_vector = books.books_search_vector(b.name, b.brief, au.name)
+FROM books.authors au
+WHERE au.id = b.author_id;
+
+CREATE INDEX IF NOT EXISTS idx_books_search_vector ON books.books USING GIN (search_vector);
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_books_name_id ON books.books(name, id);
+
+CREATE INDEX IF NOT EXISTS idx_authors_name_id ON books.authors(name, id);
+
+CREATE INDEX IF NOT EXISTS idx_genres_name_id ON books.genres(name, id);
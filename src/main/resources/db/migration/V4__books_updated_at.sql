@@ -0,0 +1,56 @@
+ALTER TABLE books.books ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_books_updated_at ON books.books (updated_at);
+
+CREATE OR REPLACE FUNCTION books.books_touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Also fires when an author is renamed, through the search vector refresh of V2
+CREATE TRIGGER trg_books_updated_at
+    BEFORE UPDATE ON books.books
+    FOR EACH ROW EXECUTE FUNCTION books.books_touch_updated_at();
+
+CREATE OR REPLACE FUNCTION books.books_genre_touch_book() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE books.books SET updated_at = now()
+    WHERE id = CASE WHEN TG_OP = 'DELETE' THEN OLD.book_id ELSE NEW.book_id END;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_books_genre_touch_book
+    AFTER INSERT OR DELETE ON books.books_genre
+    FOR EACH ROW EXECUTE FUNCTION books.books_genre_touch_book();
+
+CREATE OR REPLACE FUNCTION books.genres_touch_books() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE books.books b SET updated_at = now()
+    FROM books.books_genre bg
+    WHERE bg.genre_id = NEW.id AND b.id = bg.book_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_genres_touch_books
+    AFTER UPDATE OF name ON books.genres
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION books.genres_touch_books();
+
+CREATE OR REPLACE VIEW books.books_view AS
+    SELECT
+        b.id,
+        b.name,
+        b.brief,
+        b.photo_key,
+        b.isbn,
+        b.price,
+        b.publish_date,
+        au.id AS author_id,
+        au.name AS author_name,
+        b.updated_at
+FROM books.books b
+INNER JOIN books.authors au ON au.id = b.author_id;
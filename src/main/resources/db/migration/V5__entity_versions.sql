@@ -0,0 +1,5 @@
+ALTER TABLE books.books ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE books.authors ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE books.genres ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Keep the oldest link of each duplicated pair before enforcing uniqueness
+DELETE FROM books.books_genre a
+USING books.books_genre b
+WHERE a.book_id = b.book_id AND a.genre_id = b.genre_id AND a.id > b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS books_genre_book_id_genre_id_key ON books.books_genre (book_id, genre_id);
+
+-- Genre links are written without loading the book, so the book version is bumped here as well
+CREATE OR REPLACE FUNCTION books.books_genre_touch_book() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE books.books SET updated_at = now(), version = version + 1
+    WHERE id = CASE WHEN TG_OP = 'DELETE' THEN OLD.book_id ELSE NEW.book_id END;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,6 @@
+-- Postgres does not index the referencing side of a foreign key. Without these, loading the books of an author
+-- and the cascades of author and genre deletes scan the whole table. books_genre.book_id needs no index of
+-- its own, it leads the unique (book_id, genre_id) index of V6.
+CREATE INDEX IF NOT EXISTS idx_books_author_id ON books.books (author_id);
+
+CREATE INDEX IF NOT EXISTS idx_books_genre_genre_id ON books.books_genre (genre_id);
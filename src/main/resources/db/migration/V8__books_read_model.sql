@@ -0,0 +1,89 @@
+-- Denormalized read model of the books: the book, its author name and its genres as arrays in one row, so
+-- detail, list and search reads hit a single table. It is refreshed by a trigger on books.books only, every
+-- other change already touches the book row: genre links (V4, V6), genre renames (V4) and author renames
+-- (V2, through the search vector). Deleted books go away through the foreign key.
+CREATE TABLE IF NOT EXISTS books.books_read(
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    brief VARCHAR(2048),
+    photo_key VARCHAR(1024),
+    isbn VARCHAR(13) NOT NULL,
+    price DECIMAL(12,2),
+    publish_date DATE NOT NULL,
+    author_id UUID NOT NULL,
+    author_name VARCHAR(60),
+    genre_ids UUID[] NOT NULL DEFAULT '{}',
+    genre_names VARCHAR(60)[] NOT NULL DEFAULT '{}',
+    search_vector TSVECTOR,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_books_read_id FOREIGN KEY(id) REFERENCES books.books(id)
+        ON DELETE CASCADE
+);
+
+CREATE OR REPLACE FUNCTION books.books_refresh_read() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO books.books_read AS r (
+        id, name, brief, photo_key, isbn, price, publish_date, author_id, author_name,
+        genre_ids, genre_names, search_vector, updated_at
+    )
+    SELECT
+        NEW.id, NEW.name, NEW.brief, NEW.photo_key, NEW.isbn, NEW.price, NEW.publish_date, NEW.author_id, au.name,
+        coalesce(g.ids, '{}'), coalesce(g.names, '{}'), NEW.search_vector, NEW.updated_at
+    FROM books.authors au
+    CROSS JOIN LATERAL (
+        SELECT
+            array_agg(ge.id ORDER BY ge.name, ge.id) AS ids,
+            array_agg(ge.name ORDER BY ge.name, ge.id) AS names
+        FROM books.books_genre bg
+        INNER JOIN books.genres ge ON ge.id = bg.genre_id
+        WHERE bg.book_id = NEW.id
+    ) g
+    WHERE au.id = NEW.author_id
+    ON CONFLICT (id) DO UPDATE SET
+        name = EXCLUDED.name,
+        brief = EXCLUDED.brief,
+        photo_key = EXCLUDED.photo_key,
+        isbn = EXCLUDED.isbn,
+        price = EXCLUDED.price,
+        publish_date = EXCLUDED.publish_date,
+        author_id = EXCLUDED.author_id,
+        author_name = EXCLUDED.author_name,
+        genre_ids = EXCLUDED.genre_ids,
+        genre_names = EXCLUDED.genre_names,
+        search_vector = EXCLUDED.search_vector,
+        updated_at = EXCLUDED.updated_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_books_read
+    AFTER INSERT OR UPDATE ON books.books
+    FOR EACH ROW EXECUTE FUNCTION books.books_refresh_read();
+
+INSERT INTO books.books_read (
+    id, name, brief, photo_key, isbn, price, publish_date, author_id, author_name,
+    genre_ids, genre_names, search_vector, updated_at
+)
+SELECT
+    b.id, b.name, b.brief, b.photo_key, b.isbn, b.price, b.publish_date, b.author_id, au.name,
+    coalesce(g.ids, '{}'), coalesce(g.names, '{}'), b.search_vector, b.updated_at
+FROM books.books b
+INNER JOIN books.authors au ON au.id = b.author_id
+CROSS JOIN LATERAL (
+    SELECT
+        array_agg(ge.id ORDER BY ge.name, ge.id) AS ids,
+        array_agg(ge.name ORDER BY ge.name, ge.id) AS names
+    FROM books.books_genre bg
+    INNER JOIN books.genres ge ON ge.id = bg.genre_id
+    WHERE bg.book_id = b.id
+) g;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_books_read_isbn ON books.books_read (isbn);
+
+CREATE INDEX IF NOT EXISTS idx_books_read_name_id ON books.books_read (name, id);
+
+CREATE INDEX IF NOT EXISTS idx_books_read_updated_at ON books.books_read (updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_books_read_search_vector ON books.books_read USING GIN (search_vector);
+
+DROP VIEW IF EXISTS books.books_view;
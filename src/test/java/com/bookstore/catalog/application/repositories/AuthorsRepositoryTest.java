@@ -1,18 +1,38 @@
 package com.bookstore.catalog.application.repositories;
 
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
 import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.infra.metrics.CountingDataSourcePostProcessor;
+import com.bookstore.catalog.infra.metrics.SqlStatementAssertions;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
 
 @DisplayName("Authors repository Test")
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CountingDataSourcePostProcessor.class)
 public class AuthorsRepositoryTest {
 
     @Autowired
@@ -82,4 +102,79 @@ public class AuthorsRepositoryTest {
         Assertions.assertEquals(2, authors.getTotalElements());
     }
 
+    @DisplayName("List authors as slice")
+    @Test
+    void testWhenListAuthorsAsSlice_Should_return_SliceWithNext() {
+        authorsRepository.save(new Author(null, "Foo", "Author biography"));
+        authorsRepository.save(new Author(null, "J.R.R. Tolkien", "The lord of rings"));
+
+        Slice<Author> first = authorsRepository.findAllBy(PageRequest.of(0, 1));
+        Slice<Author> second = authorsRepository.findAllBy(PageRequest.of(1, 1));
+
+        Assertions.assertEquals(1, first.getNumberOfElements());
+        Assertions.assertTrue(first.hasNext());
+        Assertions.assertFalse(second.hasNext());
+    }
+
+    @DisplayName("List authors by keyset")
+    @Test
+    void testWhenListAuthorsByKeyset_Should_return_AllAuthorsInOrder() {
+        for (int i = 0; i < 12; i++) {
+            authorsRepository.save(new Author(null, "Keyset " + (char) ('a' + i % 6), null));
+        }
+
+        List<Author> authors = new ArrayList<>(authorsRepository.findKeysetFirst(Limit.of(5)));
+        List<Author> page = authors;
+        while (!page.isEmpty()) {
+            Author last = page.get(page.size() - 1);
+            page = authorsRepository.findKeysetAfter(last.getName(), last.getId(), Limit.of(5));
+            authors.addAll(page);
+        }
+
+        var names = authors.stream().map(Author::getName).toList();
+
+        Assertions.assertEquals(names.stream().sorted(Comparator.naturalOrder()).toList(), names);
+        Assertions.assertEquals(authors.size(), authors.stream().map(Author::getId).distinct().count());
+        Assertions.assertEquals(12, authors.stream().filter(author -> author.getName().startsWith("Keyset")).count());
+    }
+
+    @DisplayName("Delete author with books in one statement")
+    @Test
+    void testWhenDeleteAuthorDirectly_Should_CascadeToBooks_In_OneStatement(
+            @Autowired BooksRepository booksRepository,
+            @Autowired GenresRepository genresRepository,
+            @Autowired BooksGenresRepository booksGenresRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        Author author = authorsRepository.save(new Author(null, "Isaac Asimov", ""));
+        Genre genre = genresRepository.save(new Genre(null, "Science fiction"));
+        List<UUID> bookIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Book book = new Book(null, "Foundation " + i, "", null, "978055338257" + i, new BigDecimal("10.0"), LocalDate.of(1951, 6, 1));
+            book.setAuthor(author);
+            book = booksRepository.save(book);
+            bookIds.add(book.getId());
+
+            BookGenre bookGenre = new BookGenre();
+            bookGenre.setBook(book);
+            bookGenre.setGenre(genre);
+            booksGenresRepository.save(bookGenre);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int deleted = SqlStatementAssertions.assertStatements(1, () -> authorsRepository.deleteDirectlyById(author.getId()));
+
+        Assertions.assertEquals(1, deleted);
+        Assertions.assertTrue(authorsRepository.findById(author.getId()).isEmpty());
+        Assertions.assertTrue(booksRepository.findAllById(bookIds).isEmpty());
+        Assertions.assertTrue(genresRepository.findById(genre.getId()).isPresent());
+    }
+
+    @DisplayName("Delete missing author")
+    @Test
+    void testWhenDeleteMissingAuthorDirectly_Should_return_Zero() {
+        Assertions.assertEquals(0, authorsRepository.deleteDirectlyById(UUID.randomUUID()));
+    }
+
 }
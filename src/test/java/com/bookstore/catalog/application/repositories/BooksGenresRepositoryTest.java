@@ -7,6 +7,8 @@ import com.bookstore.catalog.domain.entities.author.Author;
 import com.bookstore.catalog.domain.entities.books.Book;
 import com.bookstore.catalog.domain.entities.genres.BookGenre;
 import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.infra.metrics.CountingDataSourcePostProcessor;
+import com.bookstore.catalog.infra.metrics.SqlStatementAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +16,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 
 @DisplayName("Books genres repository Test")
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CountingDataSourcePostProcessor.class)
 public class BooksGenresRepositoryTest {
 
     @Autowired
@@ -89,4 +95,44 @@ public class BooksGenresRepositoryTest {
         Assertions.assertNull(savedBookGenre);
     }
 
+    @DisplayName("Find genre IDs by book ID")
+    @Test
+    void testWhenFindGenreIdsByBookId_Should_return_GenreIds() {
+        BookGenre bookGenre = new BookGenre();
+        bookGenre.setBook(book);
+        bookGenre.setGenre(genre);
+
+        booksGenresRepository.save(bookGenre);
+
+        Assertions.assertEquals(List.of(genre.getId()), booksGenresRepository.findGenreIdsByBookId(book.getId()));
+        Assertions.assertTrue(booksGenresRepository.findAllLinks().stream()
+                .anyMatch(link -> link.bookId().equals(book.getId()) && link.genreId().equals(genre.getId())));
+    }
+
+    @DisplayName("Attach genre to book")
+    @Test
+    void testWhenAttachGenre_Should_InsertOnlyOnce() {
+        Assertions.assertEquals(1, booksGenresRepository.attach(book.getId(), genre.getId()));
+        Assertions.assertEquals(0, booksGenresRepository.attach(book.getId(), genre.getId()));
+
+        Assertions.assertEquals(List.of(genre.getId()), booksGenresRepository.findGenreIdsByBookId(book.getId()));
+    }
+
+    @DisplayName("Attach genre to missing book or with missing genre")
+    @Test
+    void testWhenAttachGenre_With_MissingBookOrGenre_Should_return_Zero() {
+        Assertions.assertEquals(0, booksGenresRepository.attach(UUID.randomUUID(), genre.getId()));
+        Assertions.assertEquals(0, booksGenresRepository.attach(book.getId(), UUID.randomUUID()));
+
+        Assertions.assertTrue(booksGenresRepository.findGenreIdsByBookId(book.getId()).isEmpty());
+    }
+
+    @DisplayName("Attach genre in a single statement")
+    @Test
+    void testWhenAttachGenre_Should_ExecuteOneStatement() {
+        int inserted = SqlStatementAssertions.assertStatements(1, () -> booksGenresRepository.attach(book.getId(), genre.getId()));
+
+        Assertions.assertEquals(1, inserted);
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.bookstore.catalog.application.repositories;
+
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.infra.persistence.ConstraintViolations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@DisplayName("Books ISBN constraint Test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BooksIsbnConstraintTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    private Author author;
+
+    @BeforeEach
+    void setup() {
+        author = authorsRepository.save(new Author(null, "Ursula K. Le Guin", ""));
+    }
+
+    @AfterEach
+    void cleanup() {
+        booksRepository.findByIsbn("9780547773742").ifPresent(booksRepository::delete);
+        authorsRepository.deleteById(author.getId());
+    }
+
+    @DisplayName("Concurrent creates with the same ISBN store exactly one book")
+    @Test
+    void testGivenConcurrentCreates_WhenSameIsbn_Should_Store_OneBook() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                String name = "A Wizard of Earthsea " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        booksRepository.saveAndFlush(newBook(name));
+                        return true;
+                    } catch (DataIntegrityViolationException e) {
+                        Assertions.assertTrue(ConstraintViolations.isViolationOf(e, Book.ISBN_CONSTRAINT), e.getMessage());
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int stored = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    stored++;
+                }
+            }
+
+            Assertions.assertEquals(1, stored);
+            Assertions.assertTrue(booksRepository.findByIsbn("9780547773742").isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Other integrity violations are not taken for the ISBN constraint")
+    @Test
+    void testGivenMissingAuthor_WhenSave_Should_not_be_IsbnViolation() {
+        Author missing = new Author();
+        missing.setId(UUID.randomUUID());
+        Book book = newBook("The Dispossessed");
+        book.setAuthor(missing);
+
+        DataIntegrityViolationException e = Assertions.assertThrows(DataIntegrityViolationException.class, () -> booksRepository.saveAndFlush(book));
+
+        Assertions.assertFalse(ConstraintViolations.isViolationOf(e, Book.ISBN_CONSTRAINT));
+    }
+
+    private Book newBook(String name) {
+        Book book = new Book(null, name, "", null, "9780547773742", new BigDecimal("12.0"), LocalDate.of(1968, 11, 1));
+        book.setAuthor(author);
+        return book;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.bookstore.catalog.application.repositories;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Fills the books read model of a Hibernate generated schema, where there is no trigger to maintain it, the
+ * way the trigger of the migrations would. It is a copy of {@code books.books_refresh_read()} of V8, so tests
+ * using it check the reads against the read model, never the trigger itself nor the V2, V4 and V6 triggers that
+ * refresh the book row on author renames, genre renames and genre link changes. Those only run on Postgres.
+ */
+public final class BooksReadModel {
+
+    private static final String GENRES = "FROM books.books_genre bg INNER JOIN books.genres g ON g.id = bg.genre_id " +
+            "WHERE bg.book_id = b.id";
+
+    private BooksReadModel() {
+    }
+
+    public static int fill(EntityManager entityManager) {
+        entityManager.flush();
+        int rows = entityManager.createNativeQuery(
+                "INSERT INTO books.books_read (id, name, brief, photo_key, isbn, price, publish_date, author_id, author_name, " +
+                        "genre_ids, genre_names, updated_at) " +
+                        "SELECT b.id, b.name, b.brief, b.photo_key, b.isbn, b.price, b.publish_date, au.id, au.name, " +
+                        "COALESCE((SELECT ARRAY_AGG(g.id ORDER BY g.name, g.id) " + GENRES + "), ARRAY[]), " +
+                        "COALESCE((SELECT ARRAY_AGG(g.name ORDER BY g.name, g.id) " + GENRES + "), ARRAY[]), " +
+                        "b.updated_at " +
+                        "FROM books.books b INNER JOIN books.authors au ON au.id = b.author_id"
+        ).executeUpdate();
+        entityManager.clear();
+        return rows;
+    }
+
+}
@@ -1,8 +1,17 @@
 package com.bookstore.catalog.application.repositories;
 
 import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.books.BookVersion;
 import com.bookstore.catalog.domain.entities.author.Author;
 import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +26,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @DisplayName("Books repository Test")
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class BooksRepositoryTest {
 
@@ -197,4 +206,81 @@ public class BooksRepositoryTest {
         Assertions.assertEquals(2, books.getTotalElements());
     }
 
+    @DisplayName("Find book version")
+    @Test
+    void testWhenFindBookVersion_Should_return_BookAuthorAndGenreVersions(
+            @Autowired GenresRepository genresRepository,
+            @Autowired BooksGenresRepository booksGenresRepository
+    ) {
+        Book book = new Book(null, "The Hobbit", "Foo", null, "1234567891234", new BigDecimal("10.0"), LocalDate.now());
+        book.setAuthor(author);
+        book = booksRepository.save(book);
+
+        BookGenre bookGenre = new BookGenre();
+        bookGenre.setBook(book);
+        bookGenre.setGenre(genresRepository.save(new Genre(null, "Fantasy")));
+        booksGenresRepository.save(bookGenre);
+
+        BookVersion version = booksRepository.findVersionById(book.getId()).orElse(null);
+
+        Assertions.assertNotNull(version);
+        Assertions.assertEquals(0, version.bookVersion());
+        Assertions.assertEquals(author.getVersion(), version.authorVersion());
+        Assertions.assertEquals(1, version.genres());
+        Assertions.assertEquals(0, version.genresVersion());
+
+        Assertions.assertEquals(version, booksRepository.findVersionByIsbn("1234567891234").orElseThrow());
+    }
+
+    @DisplayName("Load and update book with a fixed number of statements")
+    @Test
+    void testWhenUpdateBookWithAuthorAndGenres_Should_IssueSameStatements_RegardlessOfGenres(
+            @Autowired GenresRepository genresRepository,
+            @Autowired BooksGenresRepository booksGenresRepository,
+            @Autowired EntityManager entityManager
+    ) {
+        Book oneGenre = saveBookWithGenres("1234567891234", 1, genresRepository, booksGenresRepository);
+        Book fourGenres = saveBookWithGenres("1234567891235", 4, genresRepository, booksGenresRepository);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        long oneGenreStatements = updatePrice(oneGenre, entityManager, statistics);
+        long fourGenresStatements = updatePrice(fourGenres, entityManager, statistics);
+
+        // One select with the author and genres joined in, one update of the dirty columns
+        Assertions.assertEquals(2, oneGenreStatements);
+        Assertions.assertEquals(oneGenreStatements, fourGenresStatements);
+    }
+
+    private Book saveBookWithGenres(String isbn, int genres, GenresRepository genresRepository, BooksGenresRepository booksGenresRepository) {
+        Book book = new Book(null, "The Hobbit", "Foo", null, isbn, new BigDecimal("10.0"), LocalDate.now());
+        book.setAuthor(author);
+        book = booksRepository.save(book);
+
+        for (int i = 0; i < genres; i++) {
+            BookGenre bookGenre = new BookGenre();
+            bookGenre.setBook(book);
+            bookGenre.setGenre(genresRepository.save(new Genre(null, "Genre " + isbn + " " + i)));
+            booksGenresRepository.save(bookGenre);
+        }
+
+        return book;
+    }
+
+    private long updatePrice(Book book, EntityManager entityManager, Statistics statistics) {
+        entityManager.clear();
+        statistics.clear();
+
+        Book loaded = booksRepository.findWithAuthorAndGenresById(book.getId()).orElseThrow();
+        loaded.setPrice(new BigDecimal("20.50"));
+        BookDetailsResponse details = BookDetailsResponse.fromBook(loaded);
+        entityManager.flush();
+
+        Assertions.assertEquals("Tolkien", details.author().name());
+        Assertions.assertEquals(loaded.getBookGenres().size(), details.genres().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+
 }
@@ -0,0 +1,158 @@
+package com.bookstore.catalog.application.repositories;
+
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@DisplayName("Books read model repository Test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class BooksViewRepositoryTest {
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    @Autowired
+    private GenresRepository genresRepository;
+
+    @Autowired
+    private BooksGenresRepository booksGenresRepository;
+
+    @Autowired
+    private BooksViewRepository booksViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Book hobbit;
+    private Book silmarillion;
+    private Genre fantasy;
+    private Genre adventure;
+
+    @BeforeEach
+    void setup() {
+        Author tolkien = authorsRepository.save(new Author(null, "J.R.R. Tolkien", ""));
+        fantasy = genresRepository.save(new Genre(null, "Fantasy"));
+        adventure = genresRepository.save(new Genre(null, "Adventure"));
+
+        hobbit = saveBook(tolkien, "The Hobbit", "9780547928227");
+        silmarillion = saveBook(tolkien, "The Silmarillion", "9780618391110");
+
+        link(hobbit, fantasy);
+        link(hobbit, adventure);
+
+        BooksReadModel.fill(entityManager);
+    }
+
+    @DisplayName("Find book details with genres in one statement")
+    @Test
+    void testWhenFindById_Should_return_BookWithGenres_In_OneStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BookView book = booksViewRepository.findById(hobbit.getId()).orElseThrow();
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        BookDetailsResponse details = BookDetailsResponse.fromBook(book);
+        Assertions.assertEquals("The Hobbit", details.name());
+        Assertions.assertEquals("J.R.R. Tolkien", details.author().name());
+        Assertions.assertEquals(Set.of(
+                new GenreResponse(fantasy.getId(), "Fantasy"),
+                new GenreResponse(adventure.getId(), "Adventure")
+        ), details.genres());
+    }
+
+    @DisplayName("Genres of a book come ordered by name")
+    @Test
+    void testWhenFindById_Should_return_GenresOrderedByName() {
+        BookView book = booksViewRepository.findById(hobbit.getId()).orElseThrow();
+
+        Assertions.assertEquals(
+                List.of(new GenreResponse(adventure.getId(), "Adventure"), new GenreResponse(fantasy.getId(), "Fantasy")),
+                GenreResponse.fromBook(book)
+        );
+    }
+
+    @DisplayName("Find book details without genres by ISBN")
+    @Test
+    void testWhenFindByIsbn_And_NoGenres_Should_return_EmptyGenres() {
+        BookView book = booksViewRepository.findByIsbn(silmarillion.getIsbn()).orElseThrow();
+
+        BookDetailsResponse details = BookDetailsResponse.fromBook(book);
+        Assertions.assertEquals(silmarillion.getId(), details.id());
+        Assertions.assertTrue(details.genres().isEmpty());
+    }
+
+    @DisplayName("Find details of a missing book")
+    @Test
+    void testWhenFindByIsbn_And_Missing_Should_return_Empty() {
+        Assertions.assertTrue(booksViewRepository.findByIsbn("0000000000000").isEmpty());
+    }
+
+    @DisplayName("Find details of several books in one statement")
+    @Test
+    void testWhenFindByIdIn_Should_return_EveryExistingBook_In_OneStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<BookView> books = booksViewRepository.findByIdIn(List.of(hobbit.getId(), silmarillion.getId(), UUID.randomUUID()));
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Map<UUID, BookView> byId = books.stream().collect(Collectors.toMap(BookView::getId, Function.identity()));
+        Assertions.assertEquals(Set.of(hobbit.getId(), silmarillion.getId()), byId.keySet());
+        Assertions.assertEquals(2, BookDetailsResponse.fromBook(byId.get(hobbit.getId())).genres().size());
+    }
+
+    @DisplayName("Find details of several books by ISBN")
+    @Test
+    void testWhenFindByIsbnIn_Should_return_OnlyExistingBooks() {
+        List<BookView> books = booksViewRepository.findByIsbnIn(List.of(silmarillion.getIsbn(), "0000000000000"));
+
+        Assertions.assertEquals(1, books.size());
+        Assertions.assertEquals(silmarillion.getId(), books.get(0).getId());
+    }
+
+    private Book saveBook(Author author, String name, String isbn) {
+        Book book = new Book(null, name, "", null, isbn, new BigDecimal("10.0"), LocalDate.of(1937, 9, 21));
+        book.setAuthor(author);
+        return booksRepository.save(book);
+    }
+
+    private void link(Book book, Genre genre) {
+        BookGenre bookGenre = new BookGenre();
+        bookGenre.setBook(book);
+        bookGenre.setGenre(genre);
+        booksGenresRepository.save(bookGenre);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.bookstore.catalog.application.repositories;
 
 import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
 import com.bookstore.catalog.domain.entities.genres.Genre;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
+
 @DisplayName("Genres repository Test")
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -79,4 +82,23 @@ public class GenresRepositoryTest {
         Assertions.assertEquals(2, genres.getTotalElements());
     }
 
+    @DisplayName("List genre entries")
+    @Test
+    void testWhenFindAllEntries_Should_return_IdNameAndVersion() {
+        Genre genre = genresRepository.saveAndFlush(new Genre(null, "Horror"));
+
+        List<GenreEntry> entries = genresRepository.findAllEntries();
+
+        Assertions.assertTrue(entries.contains(new GenreEntry(genre.getId(), "Horror", genre.getVersion())));
+    }
+
+    @DisplayName("Delete genre directly")
+    @Test
+    void testWhenDeleteGenreDirectly_Should_return_DeletedRows() {
+        Genre genre = genresRepository.saveAndFlush(new Genre(null, "Poetry"));
+
+        Assertions.assertEquals(1, genresRepository.deleteDirectlyById(genre.getId()));
+        Assertions.assertEquals(0, genresRepository.deleteDirectlyById(genre.getId()));
+    }
+
 }
@@ -0,0 +1,127 @@
+package com.bookstore.catalog.application.repositories;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests run on the schema Hibernate generates from the entities, never on the Flyway migrations, so the plan
+ * checks of {@link QueryPlanTest} only hold for Postgres while the indexes the entities declare and the B-tree
+ * indexes the migrations create are the same. This compares them by name, table, columns and uniqueness.
+ * Unique columns of a {@code CREATE TABLE} count as the {@code <table>_<column>_key} index Postgres creates.
+ */
+@DisplayName("Migration indexes Test")
+public class MigrationIndexesTest {
+
+    private static final String ENTITIES_PACKAGE = "com.bookstore.catalog.domain.entities";
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE\\s+(UNIQUE\\s+)?INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)\\s+ON\\s+([\\w.]+)\\s*(?:USING\\s+(\\w+)\\s*)?\\(([^)]*)\\)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?([\\w.]+)\\s*\\((.*?)\\n\\);", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern UNIQUE_COLUMN = Pattern.compile("^\\s*(\\w+)\\s[^\\n]*\\bUNIQUE\\b", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "DROP\\s+INDEX\\s+(?:IF\\s+EXISTS\\s+)?(?:\\w+\\.)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("V(\\d+)__.*\\.sql");
+
+    private record IndexDefinition(String table, List<String> columns, boolean unique) {
+    }
+
+    @DisplayName("Entities declare exactly the B-tree indexes of the migrations")
+    @Test
+    void testEntityIndexes_Should_match_Migrations() throws Exception {
+        Map<String, IndexDefinition> migrated = migrationIndexes();
+        Map<String, IndexDefinition> declared = entityIndexes();
+
+        Assertions.assertEquals(new TreeMap<>(migrated), new TreeMap<>(declared));
+    }
+
+    private static Map<String, IndexDefinition> migrationIndexes() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt(MigrationIndexesTest::version));
+        Assertions.assertTrue(migrations.length > 0, "No migration found");
+
+        Map<String, IndexDefinition> indexes = new HashMap<>();
+        for (Resource migration : migrations) {
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8).replaceAll("--[^\n]*", "");
+
+            Matcher table = CREATE_TABLE.matcher(sql);
+            while (table.find()) {
+                String tableName = table.group(1).toLowerCase(Locale.ROOT);
+                Matcher column = UNIQUE_COLUMN.matcher(table.group(2));
+                while (column.find()) {
+                    String columnName = column.group(1).toLowerCase(Locale.ROOT);
+                    indexes.put(tableName.substring(tableName.indexOf('.') + 1) + "_" + columnName + "_key",
+                            new IndexDefinition(tableName, List.of(columnName), true));
+                }
+            }
+
+            Matcher create = CREATE_INDEX.matcher(sql);
+            while (create.find()) {
+                String method = create.group(4);
+                if (method == null || method.equalsIgnoreCase("btree")) {
+                    indexes.put(create.group(2).toLowerCase(Locale.ROOT),
+                            new IndexDefinition(create.group(3).toLowerCase(Locale.ROOT), columns(create.group(5)), create.group(1) != null));
+                }
+            }
+
+            Matcher drop = DROP_INDEX.matcher(sql);
+            while (drop.find()) {
+                indexes.remove(drop.group(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        return indexes;
+    }
+
+    private static Map<String, IndexDefinition> entityIndexes() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+        Map<String, IndexDefinition> indexes = new HashMap<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(ENTITIES_PACKAGE)) {
+            Table table = ClassUtils.forName(candidate.getBeanClassName(), null).getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+
+            String tableName = (table.schema() + "." + table.name()).toLowerCase(Locale.ROOT);
+            for (Index index : table.indexes()) {
+                indexes.put(index.name().toLowerCase(Locale.ROOT), new IndexDefinition(tableName, columns(index.columnList()), index.unique()));
+            }
+            for (UniqueConstraint constraint : table.uniqueConstraints()) {
+                indexes.put(constraint.name().toLowerCase(Locale.ROOT), new IndexDefinition(tableName, columns(String.join(",", constraint.columnNames())), true));
+            }
+        }
+        return indexes;
+    }
+
+    private static List<String> columns(String columnList) {
+        return Arrays.stream(columnList.split(","))
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private static int version(Resource migration) {
+        Matcher matcher = MIGRATION_VERSION.matcher(Objects.requireNonNull(migration.getFilename()));
+        Assertions.assertTrue(matcher.matches(), () -> "Unexpected migration name " + migration.getFilename());
+        return Integer.parseInt(matcher.group(1));
+    }
+
+}
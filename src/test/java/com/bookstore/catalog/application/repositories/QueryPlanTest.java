@@ -0,0 +1,204 @@
+package com.bookstore.catalog.application.repositories;
+
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Runs {@code EXPLAIN} on the statements the repository queries send and fails when one of them scans a whole
+ * table holding more than {@link #SCAN_THRESHOLD} rows. Small tables like genres may be scanned. The schema is the
+ * one Hibernate generates from the entities, {@link MigrationIndexesTest} keeps its indexes in line with the migrations.
+ */
+@DisplayName("Query plan Test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.bookstore.catalog.application.repositories.QueryPlanTest$CapturedStatements")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class QueryPlanTest {
+
+    private static final int SCAN_THRESHOLD = 100;
+    private static final int BOOKS = 150;
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* ([\\w.]+)\\.tableScan \\*/");
+    private static final Pattern ROW_VALUE_SEEK = Pattern.compile("\\((\\w+)\\.name,\\1\\.id\\)>\\(\\?,\\?\\)");
+
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    @Autowired
+    private BooksViewRepository booksViewRepository;
+
+    @Autowired
+    private GenresRepository genresRepository;
+
+    @Autowired
+    private BooksGenresRepository booksGenresRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Book book;
+    private Genre genre;
+
+    @BeforeEach
+    void setup() {
+        genre = genresRepository.save(new Genre(null, "Fantasy"));
+
+        for (int index = 0; index < BOOKS; index++) {
+            Author author = authorsRepository.save(new Author(null, "Author " + index, ""));
+
+            Book saved = new Book(null, "Book " + index, "", null, String.format("978%010d", index), new BigDecimal("10.0"), LocalDate.now());
+            saved.setAuthor(author);
+            saved = booksRepository.save(saved);
+
+            BookGenre bookGenre = new BookGenre();
+            bookGenre.setBook(saved);
+            bookGenre.setGenre(genre);
+            booksGenresRepository.save(bookGenre);
+
+            book = saved;
+        }
+        BooksReadModel.fill(entityManager);
+
+        CapturedStatements.STATEMENTS.clear();
+    }
+
+    @DisplayName("Book lookups use indexes")
+    @Test
+    void testBookLookups_Should_not_ScanTables() {
+        assertIndexed(() -> booksRepository.findByIsbn(book.getIsbn()));
+        assertIndexed(() -> booksRepository.findWithAuthorAndGenresById(book.getId()));
+        assertIndexed(() -> booksRepository.findVersionById(book.getId()));
+        assertIndexed(() -> booksRepository.findVersionByIsbn(book.getIsbn()));
+        assertIndexed(() -> booksRepository.findVersionsByIdIn(List.of(book.getId(), UUID.randomUUID())));
+        assertIndexed(() -> booksRepository.findExistingIsbns(List.of(book.getIsbn(), "0000000000000")));
+    }
+
+    @DisplayName("Books read model lookups use indexes")
+    @Test
+    void testBooksReadModelLookups_Should_not_ScanTables() {
+        assertIndexed(() -> booksViewRepository.findById(book.getId()));
+        assertIndexed(() -> booksViewRepository.findByIsbn(book.getIsbn()));
+        assertIndexed(() -> booksViewRepository.findByIdIn(List.of(book.getId(), UUID.randomUUID())));
+        assertIndexed(() -> booksViewRepository.findByIsbnIn(List.of(book.getIsbn(), "0000000000000")));
+        assertIndexed(() -> {
+            try (Stream<?> books = booksViewRepository.streamUpdatedSince(Instant.now().plusSeconds(60))) {
+                return books.count();
+            }
+        });
+    }
+
+    @DisplayName("Book genre lookups use indexes")
+    @Test
+    void testBookGenreLookups_Should_not_ScanTables() {
+        assertIndexed(() -> booksGenresRepository.findByBookIdAndGenreId(book.getId(), genre.getId()));
+        assertIndexed(() -> booksGenresRepository.findGenreIdsByBookId(book.getId()));
+    }
+
+    @DisplayName("Author lookups use indexes")
+    @Test
+    void testAuthorLookups_Should_not_ScanTables() {
+        assertIndexed(() -> authorsRepository.findVersionById(book.getAuthor().getId()));
+        assertIndexed(() -> authorsRepository.findExistingIds(List.of(book.getAuthor().getId(), UUID.randomUUID())));
+        assertIndexed(() -> authorsRepository.findKeysetFirst(Limit.of(11)));
+    }
+
+    @DisplayName("Keyset pages seek with a row value comparison")
+    @Test
+    void testKeysetPages_Should_compare_RowValues() {
+        Author author = book.getAuthor();
+
+        assertIndexed(() -> authorsRepository.findKeysetAfter(author.getName(), author.getId(), Limit.of(11)));
+        assertIndexed(() -> genresRepository.findKeysetAfter(genre.getName(), genre.getId(), Limit.of(11)));
+        assertIndexed(() -> booksViewRepository.findKeysetAfter(book.getName(), book.getId(), Limit.of(11)));
+
+        // An OR of the name and id comparisons cannot be read as one ordered range of the (name, id) index
+        CapturedStatements.STATEMENTS.clear();
+        authorsRepository.findKeysetAfter(author.getName(), author.getId(), Limit.of(11));
+        genresRepository.findKeysetAfter(genre.getName(), genre.getId(), Limit.of(11));
+        booksViewRepository.findKeysetAfter(book.getName(), book.getId(), Limit.of(11));
+
+        Assertions.assertEquals(3, CapturedStatements.STATEMENTS.size());
+        CapturedStatements.STATEMENTS.forEach(sql ->
+                Assertions.assertTrue(ROW_VALUE_SEEK.matcher(sql).find(), () -> "No row value seek in " + sql));
+    }
+
+    private void assertIndexed(Supplier<?> query) {
+        CapturedStatements.STATEMENTS.clear();
+        query.get();
+
+        List<String> statements = new ArrayList<>(CapturedStatements.STATEMENTS);
+        Assertions.assertFalse(statements.isEmpty(), "No statement was sent");
+        statements.forEach(this::assertPlanIndexed);
+    }
+
+    private void assertPlanIndexed(String sql) {
+        String plan = explain(sql);
+
+        Matcher matcher = TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            String table = matcher.group(1);
+            long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+            Assertions.assertTrue(rows <= SCAN_THRESHOLD, () -> "Full scan of " + table + " (" + rows + " rows) in\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(
+                connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (ResultSet resultSet) -> {
+                    StringBuilder plan = new StringBuilder();
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                });
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.application.services.AuthorsService;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.author.AuthorDetailsResponse;
 import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
 import com.bookstore.catalog.domain.dtos.author.CreateAuthorRequest;
@@ -87,7 +88,7 @@ public class AuthorsControllerTest {
 
         AuthorDetailsResponse author = new AuthorDetailsResponse(id, "J.R.R. Tolkien", "Foo");
 
-        when(authorsService.getAuthor(id))
+        when(authorsService.getAuthor(id, null))
                 .thenReturn(ResponseEntity.ok(author));
 
         var response = mockMvc.perform(get("/api/v1/authors/" + id))
@@ -106,7 +107,7 @@ public class AuthorsControllerTest {
     void testFindAuthor_When_NotExisting_ID_Should_return_NotFound() throws Exception {
         UUID id = UUID.randomUUID();
 
-        when(authorsService.getAuthor(id))
+        when(authorsService.getAuthor(id, null))
                 .thenReturn(ResponseEntity.notFound().build());
 
         mockMvc.perform(get("/api/v1/authors/" + id))
@@ -189,7 +190,7 @@ public class AuthorsControllerTest {
     void testListAuthors_Should_return_Success() throws Exception {
         var authors = List.of(new AuthorResponse(UUID.randomUUID(), "Foo"));
 
-        when(authorsService.listAll(0))
+        when(authorsService.listAll(0, TotalMode.EXACT))
                 .thenReturn(ResponseEntity.ok(new PageImpl<>(authors)));
 
         mockMvc.perform(get("/api/v1/authors/list?pageIndex?=0"))
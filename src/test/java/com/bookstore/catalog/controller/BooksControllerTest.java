@@ -1,11 +1,19 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.application.services.BooksService;
+import com.bookstore.catalog.domain.dtos.CursorPage;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
 import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.books.BookImportError;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.dtos.books.BookLookupResponse;
 import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.dtos.books.BooksBatchRequest;
 import com.bookstore.catalog.domain.dtos.books.CreateBookRequest;
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
 import com.bookstore.catalog.domain.dtos.books.UpdateBookRequest;
+import com.bookstore.catalog.domain.dtos.genre.BookGenresRequest;
 import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -20,20 +28,33 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Books controller Test")
@@ -126,7 +147,7 @@ public class BooksControllerTest {
                 Set.of(new GenreResponse(UUID.randomUUID(), "Fantasy"))
         );
 
-        when(booksService.getBook(id))
+        when(booksService.getBook(id, null))
                 .thenReturn(ResponseEntity.ok(book));
 
         var response = mockMvc.perform(get("/api/v1/books/" + id))
@@ -144,12 +165,26 @@ public class BooksControllerTest {
         Assertions.assertEquals(book.genres(), payload.genres());
     }
 
+    @DisplayName("Find book not modified since ETag")
+    @Test
+    void testFindBook_When_ETagMatches_Should_return_NotModified() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        when(booksService.getBook(id, "\"1.0.1.0\""))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"1.0.1.0\"").build());
+
+        mockMvc.perform(get("/api/v1/books/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"1.0.1.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0.1.0\""))
+                .andDo(print());
+    }
+
     @DisplayName("Find book with not existing ID")
     @Test
     void testFindBook_When_NotExisting_ID_Should_return_NotFound() throws Exception {
         UUID id = UUID.randomUUID();
 
-        when(booksService.getBook(id))
+        when(booksService.getBook(id, null))
                 .thenReturn(ResponseEntity.notFound().build());
 
         mockMvc.perform(get("/api/v1/books/" + id))
@@ -172,7 +207,7 @@ public class BooksControllerTest {
                 Set.of(new GenreResponse(UUID.randomUUID(), "Fantasy"))
         );
 
-        when(booksService.getBookFromIsbn(isbn))
+        when(booksService.getBookFromIsbn(isbn, null))
                 .thenReturn(ResponseEntity.ok(book));
 
         var response = mockMvc.perform(get("/api/v1/books/find/isbn?q=" + isbn))
@@ -195,7 +230,7 @@ public class BooksControllerTest {
     void testFindBook_When_NotExisting_ISBN_Should_return_NotFound() throws Exception {
         String isbn = "";
 
-        when(booksService.getBookFromIsbn(isbn))
+        when(booksService.getBookFromIsbn(isbn, null))
                 .thenReturn(ResponseEntity.notFound().build());
 
         mockMvc.perform(get("/api/v1/books/find/isbn?q=" + isbn))
@@ -299,13 +334,121 @@ public class BooksControllerTest {
     void testListBooks_Should_return_Success() throws Exception {
         var books = List.of(new BookResponse(UUID.randomUUID(), "Foo", new BigDecimal("10.0"), "Foo of Baa"));
 
-        when(booksService.listAll(0))
+        when(booksService.listAll(0, TotalMode.EXACT))
                 .thenReturn(ResponseEntity.ok(new PageImpl<>(books)));
 
         mockMvc.perform(get("/api/v1/books/list?pageIndex=0"))
                 .andExpect(status().isOk()).andDo(print());
     }
 
+    @DisplayName("List books without total")
+    @Test
+    void testListBooks_When_TotalIsNone_Should_return_SliceWithoutTotal() throws Exception {
+        var books = List.of(new BookResponse(UUID.randomUUID(), "Foo", new BigDecimal("10.0"), "Foo of Baa"));
+
+        when(booksService.listAll(0, TotalMode.NONE))
+                .thenReturn(ResponseEntity.ok(new SliceImpl<>(books, PageRequest.of(0, 10), true)));
+
+        mockMvc.perform(get("/api/v1/books/list?page=0&total=none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andDo(print());
+    }
+
+    @DisplayName("List books with an invalid total")
+    @Test
+    void testListBooks_When_TotalIsInvalid_Should_return_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/books/list?page=0&total=bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.extra").value("bogus"))
+                .andDo(print());
+    }
+
+    @DisplayName("List books by cursor")
+    @Test
+    void testListBooksByCursor_Should_return_Success() throws Exception {
+        var books = List.of(new BookResponse(UUID.randomUUID(), "Foo", new BigDecimal("10.0"), "Foo of Baa"));
+
+        when(booksService.listAfter(""))
+                .thenReturn(ResponseEntity.ok(new CursorPage<>(books, "next", true)));
+
+        var response = mockMvc.perform(get("/api/v1/books/list?cursor="))
+                .andExpect(status().isOk()).andDo(print()).andReturn().getResponse();
+
+        CursorPage<?> payload = objectMapper.readValue(response.getContentAsString(), CursorPage.class);
+
+        Assertions.assertEquals(1, payload.content().size());
+        Assertions.assertEquals("next", payload.nextCursor());
+    }
+
+    @DisplayName("Export books as NDJSON")
+    @Test
+    void testExportBooks_Should_return_StreamedLines() throws Exception {
+        StreamingResponseBody body = out -> out.write("{\"name\":\"Foo\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        when(booksService.export(null))
+                .thenReturn(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body));
+
+        var result = mockMvc.perform(get("/api/v1/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"name\":\"Foo\"}\n"))
+                .andDo(print());
+    }
+
+    @DisplayName("Find books by a list of IDs")
+    @Test
+    void testFindBooksByIds_Should_return_ResultsInRequestOrder() throws Exception {
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        var book = new BookDetailsResponse(found, "The Hobbit", "Foo", "1234567891234", new BigDecimal("10.0"), LocalDate.now(), null, Set.of());
+        BooksBatchRequest body = new BooksBatchRequest(List.of(missing, found));
+
+        when(booksService.getBooks(body))
+                .thenReturn(ResponseEntity.ok(List.of(BookLookupResponse.of(missing.toString(), null), BookLookupResponse.of(found.toString(), book))));
+
+        mockMvc.perform(post("/api/v1/books/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].found").value(false))
+                .andExpect(jsonPath("$[1].book.name").value("The Hobbit"))
+                .andDo(print());
+    }
+
+    @DisplayName("Find books by a list of ISBNs")
+    @Test
+    void testFindBooksByIsbns_When_IsbnBlank_Should_return_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/books/batch/isbn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isbns\":[\"\"]}"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @DisplayName("Import books")
+    @Test
+    void testImportBooks_Should_return_Report() throws Exception {
+        var report = new BookImportResponse(2, 1, 1, 5, 200, List.of(new BookImportError(2, "length is 13 characters", "isbn")));
+
+        when(booksService.importBooks(any(InputStream.class)))
+                .thenReturn(ResponseEntity.ok(report));
+
+        mockMvc.perform(post("/api/v1/books/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andDo(print());
+    }
+
     @DisplayName("Add book genre")
     @Test
     void testAddBookGenre_Should_return_Success() throws Exception {
@@ -332,6 +475,46 @@ public class BooksControllerTest {
                 .andExpect(status().is2xxSuccessful()).andDo(print());
     }
 
+    @DisplayName("Set book genres")
+    @Test
+    void testSetBookGenres_Should_return_Genres() throws Exception {
+        UUID bookId = UUID.randomUUID();
+        GenreResponse genre = new GenreResponse(UUID.randomUUID(), "Fantasy");
+        BookGenresRequest body = new BookGenresRequest(Set.of(genre.id()));
+
+        when(booksService.setBookGenres(bookId, body))
+                .thenReturn(ResponseEntity.ok(List.of(genre)));
+
+        mockMvc.perform(put("/api/v1/books/" + bookId + "/genres")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Fantasy"))
+                .andDo(print());
+    }
+
+    @DisplayName("Set book genres without genre list")
+    @Test
+    void testSetBookGenres_When_GenreIdsMissing_Should_return_BadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/books/" + UUID.randomUUID() + "/genres")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @DisplayName("Set book genres with a null genre id")
+    @Test
+    void testSetBookGenres_When_GenreIdIsNull_Should_return_BadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/books/" + UUID.randomUUID() + "/genres")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"genreIds\":[null]}"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+
+        verifyNoInteractions(booksService);
+    }
+
     @DisplayName("Search books")
     @Test
     void testSearchBooks_Should_return_Success() throws Exception {
@@ -340,11 +523,45 @@ public class BooksControllerTest {
 
         var books = List.of(new BookResponse(UUID.randomUUID(), "The Hobbit", new BigDecimal("10.0"), "J.R.R. Tolkien"));
 
-        when(booksService.search(query, pageIndex))
+        when(booksService.search(query, pageIndex, TotalMode.EXACT))
                 .thenReturn(ResponseEntity.ok(new PageImpl<>(books)));
 
         mockMvc.perform(get("/api/v1/books/search?query=" + query + "&page=" + pageIndex))
                 .andExpect(status().isOk()).andDo(print());
     }
 
+    @DisplayName("Fuzzy search books")
+    @Test
+    void testFuzzySearchBooks_Should_return_Success() throws Exception {
+        String query = "hobit";
+        int pageIndex = 0;
+
+        var books = List.of(new BookResponse(UUID.randomUUID(), "The Hobbit", new BigDecimal("10.0"), "J.R.R. Tolkien"));
+
+        when(booksService.fuzzySearch(query, pageIndex))
+                .thenReturn(ResponseEntity.ok(new PageImpl<>(books)));
+
+        mockMvc.perform(get("/api/v1/books/search/fuzzy?query=" + query + "&page=" + pageIndex))
+                .andExpect(status().isOk()).andDo(print());
+    }
+
+    @DisplayName("Suggest books")
+    @Test
+    void testSuggestBooks_Should_return_Success() throws Exception {
+        String prefix = "hob";
+
+        var suggestions = List.of(new SuggestionResponse("The Hobbit", "book", UUID.randomUUID()));
+
+        when(booksService.suggest(prefix, 5))
+                .thenReturn(ResponseEntity.ok(suggestions));
+
+        var response = mockMvc.perform(get("/api/v1/books/suggest?prefix=" + prefix + "&limit=5"))
+                .andExpect(status().isOk()).andDo(print()).andReturn().getResponse();
+
+        SuggestionResponse[] payload = objectMapper.readValue(response.getContentAsString(), SuggestionResponse[].class);
+
+        Assertions.assertEquals(1, payload.length);
+        Assertions.assertEquals("The Hobbit", payload[0].text());
+    }
+
 }
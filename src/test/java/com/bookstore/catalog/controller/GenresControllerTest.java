@@ -1,6 +1,7 @@
 package com.bookstore.catalog.controller;
 
 import com.bookstore.catalog.application.services.GenresService;
+import com.bookstore.catalog.domain.dtos.TotalMode;
 import com.bookstore.catalog.domain.dtos.genre.GenreRequest;
 import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,6 +28,7 @@ import java.util.UUID;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Genres controller Test")
@@ -84,7 +88,7 @@ public class GenresControllerTest {
         UUID id = UUID.randomUUID();
         GenreResponse genre = new GenreResponse(id, "Fantasy");
 
-        when(genresService.getGenre(id))
+        when(genresService.getGenre(id, null))
                 .thenReturn(ResponseEntity.ok(genre));
 
         var response = mockMvc.perform(get("/api/v1/genres/" + id))
@@ -102,7 +106,7 @@ public class GenresControllerTest {
     void testFindGenre_When_NotExisting_ID_Should_return_NotFound() throws Exception {
         UUID id = UUID.randomUUID();
 
-        when(genresService.getGenre(id))
+        when(genresService.getGenre(id, null))
                 .thenReturn(ResponseEntity.notFound().build());
 
         mockMvc.perform(get("/api/v1/genres/" + id))
@@ -178,11 +182,22 @@ public class GenresControllerTest {
     void testListGenres_Should_return_Success() throws Exception {
         var genres = List.of(new GenreResponse(UUID.randomUUID(), "Fantasy"));
 
-        when(genresService.listAll(0))
+        when(genresService.listAll(0, TotalMode.EXACT, null))
                 .thenReturn(ResponseEntity.ok(new PageImpl<>(genres)));
 
         mockMvc.perform(get("/api/v1/genres/list?pageIndex=0"))
                 .andExpect(status().isOk()).andDo(print());
     }
 
+    @DisplayName("List genres not modified since ETag")
+    @Test
+    void testListGenres_When_ETagMatches_Should_return_NotModified() throws Exception {
+        when(genresService.listAll(0, TotalMode.EXACT, "\"42\""))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"42\"").build());
+
+        mockMvc.perform(get("/api/v1/genres/list").header(HttpHeaders.IF_NONE_MATCH, "\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"42\""));
+    }
+
 }
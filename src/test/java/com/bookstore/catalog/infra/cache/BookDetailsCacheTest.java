@@ -0,0 +1,164 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.domain.dtos.author.AuthorResponse;
+import com.bookstore.catalog.domain.dtos.books.BookDetailsResponse;
+import com.bookstore.catalog.domain.dtos.genre.GenreResponse;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import com.bookstore.catalog.infra.http.SerializedResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Book details cache Test")
+public class BookDetailsCacheTest {
+
+    private final UUID authorId = UUID.randomUUID();
+    private final UUID genreId = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookDetailsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BookDetailsCache(100, Duration.ofMinutes(10), new SerializedResponseCache(100, 1024), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @DisplayName("Second lookup is served from the cache")
+    @Test
+    void testGet_When_Cached_Should_not_Load() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, "9780547928227"));
+        BookDetailsResponse details = cache.get(id, key -> load(key, "9780547928227")).details();
+
+        Assertions.assertEquals(id, details.id());
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @DisplayName("Lookup by id fills the ISBN mapping")
+    @Test
+    void testGetByIsbn_When_LoadedById_Should_not_Load() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, "9780547928227"));
+        BookDetailsResponse details = cache.getByIsbn("9780547928227", isbn -> load(UUID.randomUUID(), isbn)).details();
+
+        Assertions.assertEquals(id, details.id());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @DisplayName("Missing books are not cached")
+    @Test
+    void testGet_When_LoaderReturnsNull_Should_return_Null() {
+        UUID id = UUID.randomUUID();
+
+        Assertions.assertNull(cache.get(id, key -> null));
+        Assertions.assertNotNull(cache.get(id, key -> load(key, "9780547928227")));
+    }
+
+    @DisplayName("Saving a book invalidates it")
+    @Test
+    void testOnBookSaved_Should_Reload() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, "9780547928227"));
+        cache.onBookSaved(new BookSavedEvent(id, false));
+        cache.get(id, key -> load(key, "9780547928227"));
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @DisplayName("Old ISBN does not resolve to a book whose ISBN changed")
+    @Test
+    void testGetByIsbn_When_IsbnChanged_Should_Reload() {
+        UUID id = UUID.randomUUID();
+
+        cache.getByIsbn("9780547928227", isbn -> load(id, isbn));
+        cache.onBookSaved(new BookSavedEvent(id, false));
+        cache.get(id, key -> load(key, "9780618391110"));
+
+        Assertions.assertNull(cache.getByIsbn("9780547928227", isbn -> null));
+    }
+
+    @DisplayName("Renaming an author or a genre invalidates its books")
+    @Test
+    void testOnAuthorAndGenreSaved_Should_Reload() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, key -> load(key, "9780547928227"));
+        cache.onAuthorSaved(new AuthorSavedEvent(authorId, "John Ronald Reuel Tolkien", false));
+        cache.get(id, key -> load(key, "9780547928227"));
+        cache.onGenreSaved(new GenreSavedEvent(genreId, "High Fantasy", false));
+        cache.get(id, key -> load(key, "9780547928227"));
+        cache.onAuthorSaved(new AuthorSavedEvent(UUID.randomUUID(), "Frank Herbert", false));
+        cache.get(id, key -> load(key, "9780547928227"));
+
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @DisplayName("Batch lookup loads only the missing books, in one call")
+    @Test
+    void testGetAll_When_PartlyCached_Should_LoadMissingOnce() {
+        UUID cached = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        cache.get(cached, key -> load(key, "9780547928227"));
+
+        List<Set<UUID>> calls = new ArrayList<>();
+        Map<UUID, BookDetailsCache.Entry> entries = cache.getAll(List.of(cached, missing, unknown), ids -> {
+            calls.add(ids);
+            return Map.of(missing, load(missing, "9780618391110"));
+        });
+
+        Assertions.assertEquals(List.of(Set.of(missing, unknown)), calls);
+        Assertions.assertEquals(Set.of(cached, missing), entries.keySet());
+        Assertions.assertEquals(missing, cache.getByIsbn("9780618391110", isbn -> null).details().id());
+    }
+
+    @DisplayName("Batch lookup by ISBN serves cached books")
+    @Test
+    void testGetAllByIsbn_When_Cached_Should_not_Load() {
+        UUID id = UUID.randomUUID();
+        cache.get(id, key -> load(key, "9780547928227"));
+
+        Map<String, BookDetailsCache.Entry> entries = cache.getAllByIsbn(List.of("9780547928227", "9780618391110"), isbns -> {
+            Assertions.assertEquals(Set.of("9780618391110"), isbns);
+            return Map.of();
+        });
+
+        Assertions.assertEquals(Set.of("9780547928227"), entries.keySet());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    private BookDetailsCache.Entry load(UUID id, String isbn) {
+        loads.incrementAndGet();
+        return new BookDetailsCache.Entry("\"0.0.1.0\"", new BookDetailsResponse(
+                id,
+                "The Hobbit",
+                "",
+                isbn,
+                new BigDecimal("10.0"),
+                LocalDate.of(1937, 9, 21),
+                new AuthorResponse(authorId, "J.R.R. Tolkien"),
+                Set.of(new GenreResponse(genreId, "Fantasy"))));
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.genre.GenreEntry;
+import com.bookstore.catalog.domain.events.GenreDeletedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Genre catalog Test")
+public class GenreCatalogTest {
+
+    private final GenreEntry fantasy = new GenreEntry(UUID.randomUUID(), "Fantasy", 0L);
+    private final GenreEntry adventure = new GenreEntry(UUID.randomUUID(), "Adventure", 0L);
+
+    private GenresRepository genresRepository;
+    private GenreCatalog catalog;
+
+    @BeforeEach
+    void setup() {
+        genresRepository = mock(GenresRepository.class);
+        catalog = new GenreCatalog(genresRepository);
+    }
+
+    @DisplayName("First read loads the snapshot, later reads reuse it")
+    @Test
+    void testSnapshot_When_Read_Should_LoadOnce() {
+        when(genresRepository.findAllEntries()).thenReturn(List.of(fantasy, adventure));
+
+        GenreCatalog.Snapshot snapshot = catalog.snapshot();
+
+        Assertions.assertSame(snapshot, catalog.snapshot());
+        Assertions.assertEquals(List.of(adventure, fantasy), snapshot.genres());
+        Assertions.assertEquals(fantasy, snapshot.find(fantasy.id()));
+        Assertions.assertFalse(snapshot.contains(UUID.randomUUID()));
+        verify(genresRepository, times(1)).findAllEntries();
+    }
+
+    @DisplayName("Write events replace the snapshot and its version")
+    @Test
+    void testReload_When_GenreSavedOrDeleted_Should_ReplaceSnapshot() {
+        GenreEntry renamed = new GenreEntry(fantasy.id(), "High Fantasy", 1L);
+        when(genresRepository.findAllEntries())
+                .thenReturn(List.of(fantasy, adventure))
+                .thenReturn(List.of(renamed, adventure))
+                .thenReturn(List.of(adventure));
+
+        GenreCatalog.Snapshot initial = catalog.snapshot();
+        catalog.onGenreSaved(new GenreSavedEvent(fantasy.id(), "High Fantasy", false));
+        GenreCatalog.Snapshot updated = catalog.snapshot();
+        catalog.onGenreDeleted(new GenreDeletedEvent(fantasy.id()));
+        GenreCatalog.Snapshot deleted = catalog.snapshot();
+
+        Assertions.assertEquals("High Fantasy", updated.find(fantasy.id()).name());
+        Assertions.assertFalse(deleted.contains(fantasy.id()));
+        Assertions.assertNotEquals(initial.version(), updated.version());
+        Assertions.assertNotEquals(updated.version(), deleted.version());
+        Assertions.assertEquals(fantasy, initial.find(fantasy.id()));
+    }
+
+    @DisplayName("Version depends only on the rows")
+    @Test
+    void testVersion_When_SameRows_Should_be_Equal() {
+        when(genresRepository.findAllEntries()).thenReturn(List.of(fantasy, adventure));
+        GenresRepository otherRepository = mock(GenresRepository.class);
+        when(otherRepository.findAllEntries()).thenReturn(List.of(adventure, fantasy));
+
+        Assertions.assertEquals(catalog.reload().version(), new GenreCatalog(otherRepository).reload().version());
+    }
+
+    @DisplayName("Reload that started earlier does not overwrite a later one")
+    @Test
+    void testReload_When_OlderLoadFinishesLast_Should_KeepNewer() {
+        GenreEntry renamed = new GenreEntry(fantasy.id(), "High Fantasy", 1L);
+        AtomicInteger loads = new AtomicInteger();
+        when(genresRepository.findAllEntries()).thenAnswer(invocation -> {
+            if (loads.incrementAndGet() > 1) {
+                return List.of(renamed);
+            }
+            // A write commits and its reload completes while this first load is still running
+            catalog.reload();
+            return List.of(fantasy);
+        });
+
+        GenreCatalog.Snapshot snapshot = catalog.reload();
+
+        Assertions.assertEquals("High Fantasy", snapshot.find(fantasy.id()).name());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.bookstore.catalog.infra.cache;
+
+import com.bookstore.catalog.domain.dtos.TotalMode;
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.bookstore.catalog.infra.http.SerializedResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("List page cache Test")
+public class ListPageCacheTest {
+
+    private SerializedResponseCache serializedResponses;
+    private ListPageCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        serializedResponses = new SerializedResponseCache(100, 1024);
+        cache = new ListPageCache(100, Duration.ofMinutes(1), serializedResponses, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @DisplayName("Second request of a page is served from the cache")
+    @Test
+    void testGet_When_Cached_Should_not_Load() {
+        Slice<String> first = cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+        Slice<String> second = cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertNotNull(serializedResponses.find(first));
+    }
+
+    @DisplayName("Pages are cached per index and total mode")
+    @Test
+    void testGet_When_DifferentMode_Should_Load() {
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.NONE, this::load);
+        cache.get(ListPageCache.AUTHORS, 1, TotalMode.EXACT, this::load);
+
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @DisplayName("Book write drops only book pages")
+    @Test
+    void testBookSaved_Should_Invalidate_BookPages() {
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+
+        cache.onBookSaved(new BookSavedEvent(UUID.randomUUID(), false));
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+
+        Assertions.assertEquals(3, loads.get());
+    }
+
+    @DisplayName("Author rename drops book pages, author creation does not")
+    @Test
+    void testAuthorSaved_When_Renamed_Should_Invalidate_BookPages() {
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+
+        cache.onAuthorSaved(new AuthorSavedEvent(UUID.randomUUID(), "Tolkien", true));
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        Assertions.assertEquals(1, loads.get());
+
+        cache.onAuthorSaved(new AuthorSavedEvent(UUID.randomUUID(), "J.R.R. Tolkien", false));
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @DisplayName("Page loaded across an invalidation is not kept")
+    @Test
+    void testGet_When_InvalidatedDuringLoad_Should_not_Store() {
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, () -> {
+            cache.invalidateAll();
+            return load();
+        });
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @DisplayName("Resync drops every page")
+    @Test
+    void testResync_Should_Invalidate_All() {
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+
+        cache.invalidateAll();
+        cache.get(ListPageCache.BOOKS, 0, TotalMode.EXACT, this::load);
+        cache.get(ListPageCache.AUTHORS, 0, TotalMode.EXACT, this::load);
+
+        Assertions.assertEquals(4, loads.get());
+    }
+
+    private Slice<String> load() {
+        loads.incrementAndGet();
+        return new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 10), false);
+    }
+
+}
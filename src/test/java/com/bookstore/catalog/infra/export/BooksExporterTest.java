@@ -0,0 +1,143 @@
+package com.bookstore.catalog.infra.export;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.BooksReadModel;
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@DisplayName("Books exporter Test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class BooksExporterTest {
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    @Autowired
+    private GenresRepository genresRepository;
+
+    @Autowired
+    private BooksGenresRepository booksGenresRepository;
+
+    @Autowired
+    private BooksViewRepository booksViewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BooksExporter booksExporter;
+
+    private Book hobbit;
+    private Book silmarillion;
+
+    @BeforeEach
+    void setup() {
+        booksExporter = new BooksExporter(booksViewRepository, entityManager, objectMapper, transactionManager);
+
+        Author tolkien = authorsRepository.save(new Author(null, "J.R.R. Tolkien", ""));
+        Genre fantasy = genresRepository.save(new Genre(null, "Fantasy"));
+        Genre adventure = genresRepository.save(new Genre(null, "Adventure"));
+
+        hobbit = saveBook(tolkien, "The Hobbit", "9780547928227");
+        silmarillion = saveBook(tolkien, "The Silmarillion", "9780618391110");
+
+        link(hobbit, fantasy);
+        link(hobbit, adventure);
+        link(silmarillion, fantasy);
+
+        BooksReadModel.fill(entityManager);
+    }
+
+    @DisplayName("Export books with their genres as NDJSON")
+    @Test
+    void testExport_Should_write_OneLinePerBookWithGenres() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = booksExporter.export(null, out);
+
+        Map<UUID, JsonNode> lines = parse(out);
+
+        Assertions.assertEquals(written, lines.size());
+        Assertions.assertEquals("The Hobbit", lines.get(hobbit.getId()).get("name").asText());
+        Assertions.assertEquals("J.R.R. Tolkien", lines.get(hobbit.getId()).get("author").get("name").asText());
+        Assertions.assertEquals(List.of("Adventure", "Fantasy"), genreNames(lines.get(hobbit.getId())));
+        Assertions.assertEquals(List.of("Fantasy"), genreNames(lines.get(silmarillion.getId())));
+    }
+
+    @DisplayName("Export only books updated since an instant")
+    @Test
+    void testExport_When_UpdatedSinceInFuture_Should_write_Nothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = booksExporter.export(Instant.now().plus(1, ChronoUnit.DAYS), out);
+
+        Assertions.assertEquals(0, written);
+        Assertions.assertEquals(0, out.size());
+    }
+
+    private Book saveBook(Author author, String name, String isbn) {
+        Book book = new Book(null, name, "", null, isbn, new BigDecimal("10.0"), LocalDate.of(1937, 9, 21));
+        book.setAuthor(author);
+        return booksRepository.save(book);
+    }
+
+    private void link(Book book, Genre genre) {
+        BookGenre bookGenre = new BookGenre();
+        bookGenre.setBook(book);
+        bookGenre.setGenre(genre);
+        booksGenresRepository.save(bookGenre);
+    }
+
+    private Map<UUID, JsonNode> parse(ByteArrayOutputStream out) throws Exception {
+        Map<UUID, JsonNode> lines = new HashMap<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            lines.put(UUID.fromString(node.get("id").asText()), node);
+        }
+        return lines;
+    }
+
+    private static List<String> genreNames(JsonNode line) {
+        List<String> names = new ArrayList<>();
+        line.get("genres").forEach(genre -> names.add(genre.get("name").asText()));
+        return names;
+    }
+
+}
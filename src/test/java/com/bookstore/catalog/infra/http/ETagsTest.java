@@ -0,0 +1,31 @@
+package com.bookstore.catalog.infra.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ETags Test")
+public class ETagsTest {
+
+    @DisplayName("Build a strong tag from versions")
+    @Test
+    void testOf_Should_return_QuotedVersions() {
+        Assertions.assertEquals("\"3.1.2.5\"", ETags.of(3L, 1L, 2L, 5L));
+    }
+
+    @DisplayName("Match one of the listed tags")
+    @Test
+    void testMatches_When_ListContainsTag_Should_return_True() {
+        Assertions.assertTrue(ETags.matches("\"1\", \"3.1.2.5\"", "\"3.1.2.5\""));
+        Assertions.assertTrue(ETags.matches("W/\"3.1.2.5\"", "\"3.1.2.5\""));
+        Assertions.assertTrue(ETags.matches("*", "\"3.1.2.5\""));
+    }
+
+    @DisplayName("Do not match other tags")
+    @Test
+    void testMatches_When_Different_Should_return_False() {
+        Assertions.assertFalse(ETags.matches("\"3.1.2.4\"", "\"3.1.2.5\""));
+        Assertions.assertFalse(ETags.matches(null, "\"3.1.2.5\""));
+    }
+
+}
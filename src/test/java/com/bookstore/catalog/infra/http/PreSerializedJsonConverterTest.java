@@ -0,0 +1,157 @@
+package com.bookstore.catalog.infra.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+@DisplayName("Pre-serialized JSON converter Test")
+public class PreSerializedJsonConverterTest {
+
+    public record Body(String name) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SerializedResponseCache serializedResponses;
+    private PreSerializedJsonConverter converter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setup() {
+        serializedResponses = new SerializedResponseCache(100, 16);
+        converter = new PreSerializedJsonConverter(objectMapper, serializedResponses);
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("Registered body is written from the cached bytes")
+    @Test
+    void testWrite_When_Registered_Should_ReuseBytes() throws IOException {
+        Body body = new Body("Tolkien");
+        serializedResponses.register(body);
+
+        String first = write(body).getBodyAsString();
+        byte[] cached = serializedResponses.find(body).json(() -> {
+            throw new AssertionError("Body serialized twice");
+        });
+
+        Assertions.assertEquals("{\"name\":\"Tolkien\"}", first);
+        Assertions.assertEquals(first, new String(cached, StandardCharsets.UTF_8));
+        Assertions.assertEquals(first, write(body).getBodyAsString());
+    }
+
+    @DisplayName("Registered body is gzipped when the client accepts it")
+    @Test
+    void testWrite_When_AcceptsGzip_Should_WriteGzip() throws IOException {
+        Body body = new Body("The Lord of the Rings");
+        serializedResponses.register(body);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        MockHttpOutputMessage message = write(body);
+
+        Assertions.assertEquals("gzip", message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals(HttpHeaders.ACCEPT_ENCODING, message.getHeaders().getFirst(HttpHeaders.VARY));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(message.getBodyAsBytes()))) {
+            Assertions.assertEquals("{\"name\":\"The Lord of the Rings\"}", new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @DisplayName("Gzipped body gets a weak entity tag")
+    @Test
+    void testWrite_When_Gzipped_Should_WeakenETag() throws IOException {
+        Body body = new Body("The Lord of the Rings");
+        serializedResponses.register(body);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        MockHttpOutputMessage gzipped = new MockHttpOutputMessage();
+        gzipped.getHeaders().setETag(ETags.of(3));
+        converter.write(body, MediaType.APPLICATION_JSON, gzipped);
+
+        Assertions.assertEquals("W/\"3\"", gzipped.getHeaders().getETag());
+        Assertions.assertTrue(ETags.matches(gzipped.getHeaders().getETag(), ETags.of(3)));
+
+        request.removeHeader(HttpHeaders.ACCEPT_ENCODING);
+        MockHttpOutputMessage plain = new MockHttpOutputMessage();
+        plain.getHeaders().setETag(ETags.of(3));
+        converter.write(body, MediaType.APPLICATION_JSON, plain);
+
+        Assertions.assertEquals("\"3\"", plain.getHeaders().getETag());
+    }
+
+    @DisplayName("Gzip with a zero quality is not accepted")
+    @Test
+    void testWrite_When_GzipRefused_Should_WritePlain() throws IOException {
+        Body body = new Body("The Lord of the Rings");
+        serializedResponses.register(body);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+
+        MockHttpOutputMessage message = write(body);
+
+        Assertions.assertNull(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals("{\"name\":\"The Lord of the Rings\"}", message.getBodyAsString());
+    }
+
+    @DisplayName("Accept-Encoding quality values")
+    @Test
+    void testAcceptsGzip() {
+        Assertions.assertTrue(PreSerializedJsonConverter.acceptsGzip("gzip"));
+        Assertions.assertTrue(PreSerializedJsonConverter.acceptsGzip("deflate, GZIP;q=0.5"));
+        Assertions.assertTrue(PreSerializedJsonConverter.acceptsGzip("br, *"));
+        Assertions.assertFalse(PreSerializedJsonConverter.acceptsGzip(null));
+        Assertions.assertFalse(PreSerializedJsonConverter.acceptsGzip("gzip;q=0"));
+        Assertions.assertFalse(PreSerializedJsonConverter.acceptsGzip("gzip; q=0.000, *"));
+        Assertions.assertFalse(PreSerializedJsonConverter.acceptsGzip("*;q=0"));
+        Assertions.assertFalse(PreSerializedJsonConverter.acceptsGzip("gzipper, identity"));
+    }
+
+    @DisplayName("Small registered body is not gzipped")
+    @Test
+    void testWrite_When_BelowGzipMinSize_Should_WritePlain() throws IOException {
+        Body body = new Body("X");
+        serializedResponses.register(body);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        MockHttpOutputMessage message = write(body);
+
+        Assertions.assertNull(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals("{\"name\":\"X\"}", message.getBodyAsString());
+    }
+
+    @DisplayName("Unregistered body is serialized as usual")
+    @Test
+    void testWrite_When_NotRegistered_Should_Serialize() throws IOException {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        MockHttpOutputMessage message = write(new Body("The Lord of the Rings"));
+
+        Assertions.assertNull(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals("{\"name\":\"The Lord of the Rings\"}", message.getBodyAsString());
+        Assertions.assertNull(serializedResponses.find(new Body("The Lord of the Rings")));
+    }
+
+    private MockHttpOutputMessage write(Body body) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+}
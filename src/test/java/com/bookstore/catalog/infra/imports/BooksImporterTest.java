@@ -0,0 +1,153 @@
+package com.bookstore.catalog.infra.imports;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.domain.dtos.books.BookImportError;
+import com.bookstore.catalog.domain.dtos.books.BookImportResponse;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.events.BooksImportedEvent;
+import com.bookstore.catalog.infra.metrics.CountingDataSourcePostProcessor;
+import com.bookstore.catalog.infra.metrics.SqlStatementAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@DisplayName("Books importer Test")
+@DataJpaTest(properties = "catalog.import.batch-size=100")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({BooksImporter.class, CountingDataSourcePostProcessor.class})
+@RecordApplicationEvents
+public class BooksImporterTest {
+
+    @Autowired
+    private BooksImporter booksImporter;
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Author author;
+
+    @BeforeEach
+    void setup() {
+        author = authorsRepository.saveAndFlush(new Author(null, "Tolkien", ""));
+    }
+
+    @DisplayName("Import books")
+    @Test
+    void testWhenImport_Should_CreateValidBooks_And_ReportRejectedLines() {
+        Book existing = new Book(null, "The Hobbit", "Foo", null, "9780000000000", new BigDecimal("10.0"), LocalDate.now());
+        existing.setAuthor(author);
+        booksRepository.saveAndFlush(existing);
+
+        String body = String.join("\n",
+                line("The Silmarillion", "9780000000001", author.getId()),
+                "{not json",
+                line("", "9780000000002", author.getId()),
+                line("Unfinished Tales", "9780000000003", UUID.randomUUID()),
+                line("The Hobbit again", "9780000000000", author.getId()),
+                "",
+                line("Silmarillion copy", "9780000000001", author.getId()),
+                line("The Children of Hurin", "9780000000004", author.getId())
+        );
+
+        BookImportResponse response = booksImporter.importBooks(stream(body));
+
+        Assertions.assertEquals(7, response.received());
+        Assertions.assertEquals(2, response.imported());
+        Assertions.assertEquals(5, response.failed());
+        Assertions.assertEquals(
+                List.of(2L, 3L, 4L, 5L, 7L),
+                response.errors().stream().map(BookImportError::line).sorted().toList()
+        );
+        Assertions.assertTrue(booksRepository.findByIsbn("9780000000001").isPresent());
+        Assertions.assertTrue(booksRepository.findByIsbn("9780000000004").isPresent());
+        Assertions.assertTrue(booksRepository.findByIsbn("9780000000003").isEmpty());
+        Assertions.assertEquals(
+                List.of(new BooksImportedEvent(2)),
+                events.stream(BooksImportedEvent.class).toList()
+        );
+    }
+
+    @DisplayName("Import a null line")
+    @Test
+    void testWhenImport_With_NullLine_Should_RejectTheLine() {
+        String body = String.join("\n",
+                "null",
+                line("The Silmarillion", "9780000000001", author.getId())
+        );
+
+        BookImportResponse response = booksImporter.importBooks(stream(body));
+
+        Assertions.assertEquals(1, response.imported());
+        Assertions.assertEquals(List.of(1L), response.errors().stream().map(BookImportError::line).toList());
+    }
+
+    @DisplayName("Import an isbn after a rejected line with the same isbn")
+    @Test
+    void testWhenImport_With_IsbnOfRejectedLine_Should_ImportTheLaterLine() {
+        String body = String.join("\n",
+                line("Unfinished Tales", "9780000000001", UUID.randomUUID()),
+                line("The Silmarillion", "9780000000001", author.getId())
+        );
+
+        BookImportResponse response = booksImporter.importBooks(stream(body));
+
+        Assertions.assertEquals(1, response.imported());
+        Assertions.assertEquals(List.of(1L), response.errors().stream().map(BookImportError::line).toList());
+        Assertions.assertEquals("The Silmarillion", booksRepository.findByIsbn("9780000000001").orElseThrow().getName());
+    }
+
+    @DisplayName("Import books in batches")
+    @Test
+    void testWhenImport_Should_ExecuteThreeStatementsPerBatch() {
+        String body = IntStream.range(0, 250)
+                .mapToObj(index -> line("Book " + index, String.format("978%010d", index), author.getId()))
+                .collect(Collectors.joining("\n"));
+
+        BookImportResponse response = SqlStatementAssertions.assertStatements(
+                // The author is resolved once, then every batch of 100 checks its ISBNs and inserts
+                1 + 3 * 2,
+                () -> booksImporter.importBooks(stream(body))
+        );
+
+        Assertions.assertEquals(250, response.imported());
+        Assertions.assertTrue(response.errors().isEmpty());
+    }
+
+    private static String line(String name, String isbn, UUID authorId) {
+        return "{\"name\":\"" + name + "\",\"brief\":\"\",\"isbn\":\"" + isbn + "\",\"price\":10.0," +
+                "\"publishDate\":\"2020-01-01\",\"authorId\":\"" + authorId + "\"}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.bookstore.catalog.infra.invalidation;
+
+import com.bookstore.catalog.domain.events.AuthorSavedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+@DisplayName("Invalidation codec Test")
+public class InvalidationCodecTest {
+
+    private final InvalidationCodec codec = new InvalidationCodec(new ObjectMapper());
+
+    @DisplayName("Decode an encoded event")
+    @Test
+    void testDecode_When_Encoded_Should_return_OriginAndEvent() throws Exception {
+        var event = new AuthorSavedEvent(UUID.randomUUID(), "J.R.R. Tolkien", false);
+
+        InvalidationCodec.Received received = codec.decode(codec.encode("instance-a", event));
+
+        Assertions.assertEquals("instance-a", received.origin());
+        Assertions.assertEquals(event, received.event());
+    }
+
+    @DisplayName("Book saved event round trips")
+    @Test
+    void testDecode_When_BookSaved_Should_return_SameEvent() throws Exception {
+        var event = new BookSavedEvent(UUID.randomUUID(), true);
+
+        Assertions.assertEquals(event, codec.decode(codec.encode("instance-a", event)).event());
+    }
+
+    @DisplayName("Unknown event types are skipped")
+    @Test
+    void testDecode_When_UnknownType_Should_return_Null() throws Exception {
+        String payload = "{\"origin\":\"instance-b\",\"type\":\"PriceChangedEvent\",\"event\":{}}";
+
+        Assertions.assertNull(codec.decode(payload));
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.bookstore.catalog.infra.metrics;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.domain.entities.author.Author;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@DisplayName("Counting data source Test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CountingDataSourcePostProcessor.class)
+public class CountingDataSourceTest {
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DisplayName("Data source is wrapped")
+    @Test
+    void testDataSource_Should_be_Counting() {
+        Assertions.assertInstanceOf(CountingDataSource.class, dataSource);
+    }
+
+    @DisplayName("Count statements and fetched rows")
+    @Test
+    void testCount_When_Query_Should_return_StatementsAndRows() {
+        authorsRepository.save(new Author(null, "Tolkien", ""));
+        authorsRepository.save(new Author(null, "Lewis", ""));
+        entityManager.flush();
+        entityManager.clear();
+
+        QueryCounter.Counts counts = SqlStatementAssertions.count(() -> {
+            List<Author> authors = authorsRepository.findAll();
+            Assertions.assertTrue(authors.size() >= 2);
+        });
+
+        Assertions.assertEquals(1, counts.statements());
+        Assertions.assertTrue(counts.rows() >= 2);
+        Assertions.assertTrue(counts.nanos() > 0);
+    }
+
+    @DisplayName("Flushed writes are counted")
+    @Test
+    void testAssertStatements_When_Flush_Should_Count_Inserts() {
+        SqlStatementAssertions.assertStatements(2, () -> {
+            authorsRepository.save(new Author(null, "Tolkien", ""));
+            authorsRepository.save(new Author(null, "Lewis", ""));
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    @DisplayName("Nothing is counted outside a count")
+    @Test
+    void testCount_When_NotStarted_Should_be_Inactive() {
+        authorsRepository.findAll();
+
+        Assertions.assertFalse(QueryCounter.isActive());
+        Assertions.assertNull(QueryCounter.stop());
+    }
+
+}
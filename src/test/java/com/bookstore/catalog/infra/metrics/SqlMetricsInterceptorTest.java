@@ -0,0 +1,74 @@
+package com.bookstore.catalog.infra.metrics;
+
+import com.bookstore.catalog.controller.BooksController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SQL metrics interceptor Test")
+public class SqlMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlMetricsInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlMetricsInterceptor(meterRegistry, 25);
+
+        var getBook = Arrays.stream(BooksController.class.getMethods())
+                .filter(method -> method.getName().equals("getBook"))
+                .findFirst()
+                .orElseThrow();
+        handler = new HandlerMethod(mock(BooksController.class), getBook);
+    }
+
+    @DisplayName("Record statements, rows and time per controller method")
+    @Test
+    void testAfterCompletion_Should_Record_PerHandler() {
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        QueryCounter.statement(1_000_000);
+        QueryCounter.row();
+        QueryCounter.row();
+        QueryCounter.statement(2_000_000);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        var statements = meterRegistry.get("catalog.request.sql.statements").tag("handler", "BooksController.getBook").summary();
+        var rows = meterRegistry.get("catalog.request.sql.rows").tag("handler", "BooksController.getBook").summary();
+        var time = meterRegistry.get("catalog.request.sql.time").tag("handler", "BooksController.getBook").timer();
+
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(2, statements.totalAmount());
+        Assertions.assertEquals(2, rows.totalAmount());
+        Assertions.assertEquals(3.0, time.totalTime(TimeUnit.MILLISECONDS));
+        Assertions.assertFalse(QueryCounter.isActive());
+    }
+
+    @DisplayName("Requests not handled by a controller method are not counted")
+    @Test
+    void testPreHandle_When_NotHandlerMethod_Should_not_Count() {
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        Assertions.assertFalse(QueryCounter.isActive());
+        Assertions.assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+}
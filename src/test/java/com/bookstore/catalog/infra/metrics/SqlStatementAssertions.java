@@ -0,0 +1,37 @@
+package com.bookstore.catalog.infra.metrics;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Asserts the number of SQL statements a piece of code runs. The data source of the test context has to be
+ * wrapped by {@link CountingDataSource}, slice tests get that by importing
+ * {@link CountingDataSourcePostProcessor}.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertStatements(long expected, Supplier<T> work) {
+        AtomicReference<T> result = new AtomicReference<>();
+        QueryCounter.Counts counts = count(() -> result.set(work.get()));
+
+        Assertions.assertEquals(expected, counts.statements(), "SQL statements");
+        return result.get();
+    }
+
+    public static QueryCounter.Counts count(Runnable work) {
+        QueryCounter.Counts counts;
+        QueryCounter.start();
+        try {
+            work.run();
+        } finally {
+            counts = QueryCounter.stop();
+        }
+        return counts;
+    }
+
+}
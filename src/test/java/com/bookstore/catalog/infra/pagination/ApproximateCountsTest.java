@@ -0,0 +1,76 @@
+package com.bookstore.catalog.infra.pagination;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.domain.events.BookDeletedEvent;
+import com.bookstore.catalog.domain.events.BookSavedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Approximate counts Test")
+public class ApproximateCountsTest {
+
+    private ApproximateCounts approximateCounts;
+
+    @BeforeEach
+    void setup() {
+        BooksViewRepository booksViewRepository = mock(BooksViewRepository.class);
+        when(booksViewRepository.count()).thenReturn(40L);
+
+        approximateCounts = new ApproximateCounts(booksViewRepository, mock(AuthorsRepository.class));
+        approximateCounts.refresh();
+    }
+
+    @DisplayName("Total comes from the counter")
+    @Test
+    void testBooks_When_SliceHasNext_Should_return_CachedTotal() {
+        Page<String> page = approximateCounts.books(new SliceImpl<>(Collections.nCopies(10, "book"), PageRequest.of(0, 10), true));
+
+        Assertions.assertEquals(40, page.getTotalElements());
+        Assertions.assertEquals(4, page.getTotalPages());
+    }
+
+    @DisplayName("Counter follows write events")
+    @Test
+    void testBooks_When_BooksCreatedAndDeleted_Should_return_UpdatedTotal() {
+        approximateCounts.onBookSaved(new BookSavedEvent(UUID.randomUUID(), true));
+        approximateCounts.onBookSaved(new BookSavedEvent(UUID.randomUUID(), true));
+        approximateCounts.onBookSaved(new BookSavedEvent(UUID.randomUUID(), false));
+        approximateCounts.onBookDeleted(new BookDeletedEvent(UUID.randomUUID()));
+
+        Page<String> page = approximateCounts.books(new SliceImpl<>(Collections.nCopies(10, "book"), PageRequest.of(0, 10), true));
+
+        Assertions.assertEquals(41, page.getTotalElements());
+    }
+
+    @DisplayName("Last slice fixes a stale counter")
+    @Test
+    void testBooks_When_LastSlice_Should_return_ExactTotal() {
+        Page<String> page = approximateCounts.books(new SliceImpl<>(List.of("book", "book"), PageRequest.of(1, 10), false));
+
+        Assertions.assertEquals(12, page.getTotalElements());
+        Assertions.assertTrue(page.isLast());
+    }
+
+    @DisplayName("Stale counter never hides a next page")
+    @Test
+    void testBooks_When_CounterBehind_Should_return_NextPage() {
+        Page<String> page = approximateCounts.books(new SliceImpl<>(Collections.nCopies(10, "book"), PageRequest.of(4, 10), true));
+
+        Assertions.assertTrue(page.hasNext());
+        Assertions.assertEquals(51, page.getTotalElements());
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.bookstore.catalog.infra.pagination;
+
+import com.bookstore.catalog.domain.exceptions.BadRequestException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.util.UUID;
+
+@DisplayName("Keyset cursor Test")
+public class KeysetCursorTest {
+
+    @DisplayName("Decode an encoded cursor")
+    @Test
+    void testDecode_When_Encoded_Should_return_Keys() {
+        UUID id = UUID.randomUUID();
+
+        KeysetScrollPosition position = (KeysetScrollPosition) KeysetCursor.decode(KeysetCursor.encode("Ação & Aventura", id));
+
+        Assertions.assertEquals("Ação & Aventura", position.getKeys().get("name"));
+        Assertions.assertEquals(id, position.getKeys().get("id"));
+    }
+
+    @DisplayName("Empty cursor starts from the beginning")
+    @Test
+    void testDecode_When_Empty_Should_return_Initial() {
+        Assertions.assertTrue(KeysetCursor.decode("").isInitial());
+        Assertions.assertEquals(ScrollPosition.keyset(), KeysetCursor.decode(null));
+    }
+
+    @DisplayName("Malformed cursor is a bad request")
+    @Test
+    void testDecode_When_Malformed_Should_throw_BadRequest() {
+        Assertions.assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+
+}
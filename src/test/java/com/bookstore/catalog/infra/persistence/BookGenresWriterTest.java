@@ -0,0 +1,138 @@
+package com.bookstore.catalog.infra.persistence;
+
+import com.bookstore.catalog.application.repositories.AuthorsRepository;
+import com.bookstore.catalog.application.repositories.books.BooksRepository;
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.entities.author.Author;
+import com.bookstore.catalog.domain.entities.books.Book;
+import com.bookstore.catalog.domain.entities.genres.BookGenre;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.infra.metrics.CountingDataSourcePostProcessor;
+import com.bookstore.catalog.infra.metrics.SqlStatementAssertions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@DisplayName("Book genres writer Test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookGenresWriter.class, CountingDataSourcePostProcessor.class})
+public class BookGenresWriterTest {
+
+    @Autowired
+    private BookGenresWriter bookGenresWriter;
+
+    @Autowired
+    private BooksGenresRepository booksGenresRepository;
+
+    @Autowired
+    private AuthorsRepository authorsRepository;
+
+    @Autowired
+    private BooksRepository booksRepository;
+
+    @Autowired
+    private GenresRepository genresRepository;
+
+    private Book book;
+    private List<Genre> genres;
+
+    @BeforeEach
+    void setup() {
+        Author author = authorsRepository.save(new Author(null, "Tolkien", ""));
+
+        book = new Book(null, "The Hobbit", "Foo", null, "1234567891234", new BigDecimal("10.0"), LocalDate.now());
+        book.setAuthor(author);
+        book = booksRepository.save(book);
+
+        genres = IntStream.range(0, 12)
+                .mapToObj(index -> genresRepository.save(new Genre(null, "Genre " + index)))
+                .toList();
+        genresRepository.flush();
+    }
+
+    @DisplayName("Replace book genres")
+    @Test
+    void testWhenReplace_Should_ApplyTheDifference() {
+        bookGenresWriter.replace(book.getId(), Set.of(genres.get(0).getId(), genres.get(1).getId()));
+
+        BookGenresWriter.Changes changes = bookGenresWriter.replace(book.getId(), Set.of(genres.get(1).getId(), genres.get(2).getId()));
+
+        Assertions.assertEquals(new BookGenresWriter.Changes(1, 1), changes);
+        Assertions.assertEquals(
+                Set.of(genres.get(1).getId(), genres.get(2).getId()),
+                new HashSet<>(booksGenresRepository.findGenreIdsByBookId(book.getId()))
+        );
+    }
+
+    @DisplayName("Replace book genres with the same set")
+    @Test
+    void testWhenReplace_With_SameGenres_Should_ChangeNothing() {
+        Set<UUID> genreIds = Set.of(genres.get(0).getId(), genres.get(1).getId());
+        bookGenresWriter.replace(book.getId(), genreIds);
+
+        BookGenresWriter.Changes changes = bookGenresWriter.replace(book.getId(), genreIds);
+
+        Assertions.assertFalse(changes.any());
+        Assertions.assertEquals(2, booksGenresRepository.findGenreIdsByBookId(book.getId()).size());
+    }
+
+    @DisplayName("Replace book genres with an empty set")
+    @Test
+    void testWhenReplace_With_NoGenres_Should_RemoveAll() {
+        bookGenresWriter.replace(book.getId(), Set.of(genres.get(0).getId(), genres.get(1).getId()));
+
+        BookGenresWriter.Changes changes = bookGenresWriter.replace(book.getId(), Set.of());
+
+        Assertions.assertEquals(new BookGenresWriter.Changes(2, 0), changes);
+        Assertions.assertTrue(booksGenresRepository.findGenreIdsByBookId(book.getId()).isEmpty());
+    }
+
+    @DisplayName("Replace many book genres in two statements")
+    @Test
+    void testWhenReplace_With_ManyGenres_Should_ExecuteTwoStatements() {
+        Set<UUID> genreIds = new HashSet<>(genres.stream().limit(10).map(Genre::getId).toList());
+
+        BookGenresWriter.Changes changes = SqlStatementAssertions.assertStatements(2, () -> bookGenresWriter.replace(book.getId(), genreIds));
+
+        Assertions.assertEquals(new BookGenresWriter.Changes(0, 10), changes);
+    }
+
+    @DisplayName("Replace genres of a missing book")
+    @Test
+    void testWhenReplace_With_MissingBook_Should_ViolateBookForeignKey() {
+        DataIntegrityViolationException exception = Assertions.assertThrows(
+                DataIntegrityViolationException.class,
+                () -> bookGenresWriter.replace(UUID.randomUUID(), Set.of(genres.get(0).getId()))
+        );
+
+        Assertions.assertTrue(ConstraintViolations.isViolationOf(exception, BookGenre.BOOK_CONSTRAINT));
+    }
+
+    @DisplayName("Replace book genres with a missing genre")
+    @Test
+    void testWhenReplace_With_MissingGenre_Should_ViolateGenreForeignKey() {
+        DataIntegrityViolationException exception = Assertions.assertThrows(
+                DataIntegrityViolationException.class,
+                () -> bookGenresWriter.replace(book.getId(), Set.of(UUID.randomUUID()))
+        );
+
+        Assertions.assertTrue(ConstraintViolations.isViolationOf(exception, BookGenre.GENRE_CONSTRAINT));
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.bookstore.catalog.infra.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+@DisplayName("Read/write routing data source Test")
+public class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM replication";
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        replica = database("replica");
+
+        new JdbcTemplate(replica).execute("CREATE TABLE replication (lag_seconds DOUBLE PRECISION)");
+        new JdbcTemplate(replica).update("INSERT INTO replication VALUES (0)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(replica, LAG_QUERY, Duration.ofSeconds(5));
+        replicaLagMonitor.check();
+
+        dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @DisplayName("Read-only transactions read from the replica")
+    @Test
+    void testWhenReadOnly_Should_use_Replica() {
+        Assertions.assertEquals("replica", readOnly.execute(status -> database()));
+    }
+
+    @DisplayName("Read-write transactions and plain statements use the primary")
+    @Test
+    void testWhenReadWrite_Should_use_Primary() {
+        Assertions.assertEquals("primary", readWrite.execute(status -> database()));
+        Assertions.assertEquals("primary", database());
+    }
+
+    @DisplayName("Read-only transactions fall back to the primary while the replica lags")
+    @Test
+    void testWhenReplicaLags_Should_use_Primary() {
+        new JdbcTemplate(replica).update("UPDATE replication SET lag_seconds = 30");
+        replicaLagMonitor.check();
+
+        Assertions.assertEquals("primary", readOnly.execute(status -> database()));
+
+        new JdbcTemplate(replica).update("UPDATE replication SET lag_seconds = 0.5");
+        replicaLagMonitor.check();
+
+        Assertions.assertEquals("replica", readOnly.execute(status -> database()));
+    }
+
+    @DisplayName("Read-only transactions fall back to the primary when the lag check fails")
+    @Test
+    void testWhenLagCheckFails_Should_use_Primary() {
+        new JdbcTemplate(replica).execute("DROP TABLE replication");
+        replicaLagMonitor.check();
+
+        Assertions.assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @DisplayName("Read-only transactions use the primary right after a write")
+    @Test
+    void testWhenRecentWrite_Should_use_Primary() {
+        replicaLagMonitor.onWrite();
+
+        Assertions.assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @DisplayName("JPA read-only transactions read from the replica, other JPA transactions from the primary")
+    @Test
+    void testWhenJpaTransaction_Should_route_ByReadOnlyFlag() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReadWriteRoutingDataSourceTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        try {
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+
+            TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+
+            Assertions.assertEquals("replica", jpaReadOnly.execute(status -> database(entityManager)));
+            Assertions.assertEquals("primary", jpaReadWrite.execute(status -> database(entityManager)));
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    @DisplayName("Nothing is read from the replica before the first lag check")
+    @Test
+    void testWhenNotChecked_Should_not_be_Readable() {
+        ReplicaLagMonitor unchecked = new ReplicaLagMonitor(replica, LAG_QUERY, Duration.ofSeconds(5));
+
+        Assertions.assertFalse(unchecked.isReadable());
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT name FROM database_role", String.class);
+    }
+
+    private static String database(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM database_role").getSingleResult();
+    }
+
+    private static DataSource database(String role) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE database_role (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO database_role VALUES (?)", role);
+        return dataSource;
+    }
+
+}
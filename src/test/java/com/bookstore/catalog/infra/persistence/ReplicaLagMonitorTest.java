@@ -0,0 +1,106 @@
+package com.bookstore.catalog.infra.persistence;
+
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+@DisplayName("Replica lag monitor Test")
+public class ReplicaLagMonitorTest {
+
+    private AnnotationConfigApplicationContext context;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReloadProbe reloadProbe;
+
+    @BeforeEach
+    void setup() {
+        context = new AnnotationConfigApplicationContext(Listeners.class);
+        replicaLagMonitor = context.getBean(ReplicaLagMonitor.class);
+        reloadProbe = context.getBean(ReloadProbe.class);
+
+        replicaLagMonitor.check();
+        Assertions.assertTrue(replicaLagMonitor.isReadable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @DisplayName("Reloads after a committed write already read from the primary")
+    @Test
+    void testWhenWriteCommitted_Should_pin_ReloadsToPrimary() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new GenreSavedEvent(UUID.randomUUID(), "Fantasy", true)));
+
+        Assertions.assertEquals(Boolean.FALSE, reloadProbe.replicaReadable);
+    }
+
+    @DisplayName("Reloads after a write outside a transaction already read from the primary")
+    @Test
+    void testWhenWriteWithoutTransaction_Should_pin_ReloadsToPrimary() {
+        context.publishEvent(new GenreSavedEvent(UUID.randomUUID(), "Fantasy", true));
+
+        Assertions.assertEquals(Boolean.FALSE, reloadProbe.replicaReadable);
+    }
+
+    /**
+     * Stands for the caches and indexes reloading on write events, registered ahead of the monitor so only the
+     * listener order can put the monitor first.
+     */
+    static class ReloadProbe {
+
+        private final ReplicaLagMonitor replicaLagMonitor;
+        private Boolean replicaReadable;
+
+        ReloadProbe(ReplicaLagMonitor replicaLagMonitor) {
+            this.replicaLagMonitor = replicaLagMonitor;
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onGenreSaved(GenreSavedEvent event) {
+            replicaReadable = replicaLagMonitor.isReadable();
+        }
+
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Listeners {
+
+        @Bean
+        ReloadProbe reloadProbe(ReplicaLagMonitor replicaLagMonitor) {
+            return new ReloadProbe(replicaLagMonitor);
+        }
+
+        @Bean
+        ReplicaLagMonitor replicaLagMonitor() {
+            DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica-" + UUID.randomUUID(), "sa", "");
+            return new ReplicaLagMonitor(replica, "SELECT 0", Duration.ofSeconds(5));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            return new DataSourceTransactionManager(primary);
+        }
+
+    }
+
+}
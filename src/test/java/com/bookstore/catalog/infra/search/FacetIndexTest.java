@@ -0,0 +1,98 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.books.FacetCount;
+import com.bookstore.catalog.domain.dtos.books.SearchFacets;
+import com.bookstore.catalog.domain.dtos.genre.BookGenreLink;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import com.bookstore.catalog.domain.entities.genres.Genre;
+import com.bookstore.catalog.domain.events.BookGenresChangedEvent;
+import com.bookstore.catalog.domain.events.GenreSavedEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@DisplayName("Facet index Test")
+public class FacetIndexTest {
+
+    private final UUID tolkienId = UUID.randomUUID();
+    private final UUID fantasyId = UUID.randomUUID();
+    private final UUID classicId = UUID.randomUUID();
+
+    private BooksGenresRepository booksGenresRepository;
+    private FacetIndex facetIndex;
+
+    private BookView hobbit;
+    private BookView silmarillion;
+    private BookView dune;
+
+    @BeforeEach
+    void setup() {
+        hobbit = book(new BigDecimal("9.90"), 1937, tolkienId, "J.R.R. Tolkien");
+        silmarillion = book(new BigDecimal("45.00"), 1977, tolkienId, "J.R.R. Tolkien");
+        dune = book(new BigDecimal("120.00"), 1965, UUID.randomUUID(), "Frank Herbert");
+
+        booksGenresRepository = Mockito.mock(BooksGenresRepository.class);
+        GenresRepository genresRepository = Mockito.mock(GenresRepository.class);
+
+        when(booksGenresRepository.findAllLinks()).thenReturn(List.of(
+                new BookGenreLink(hobbit.getId(), fantasyId),
+                new BookGenreLink(silmarillion.getId(), fantasyId),
+                new BookGenreLink(dune.getId(), classicId)
+        ));
+        when(genresRepository.findAll()).thenReturn(List.of(new Genre(fantasyId, "Fantasy"), new Genre(classicId, "Classic")));
+
+        facetIndex = new FacetIndex(booksGenresRepository, genresRepository);
+        facetIndex.load(List.of(hobbit, silmarillion, dune));
+    }
+
+    @DisplayName("Count facets of a result set")
+    @Test
+    void testCount_Should_return_FacetsOfResultSet() {
+        SearchFacets facets = facetIndex.count(List.of(hobbit.getId(), silmarillion.getId()));
+
+        Assertions.assertEquals(List.of(new FacetCount(fantasyId.toString(), "Fantasy", 2)), facets.genres());
+        Assertions.assertEquals(List.of(new FacetCount(tolkienId.toString(), "J.R.R. Tolkien", 2)), facets.authors());
+        Assertions.assertEquals(List.of("0-10", "25-50"), facets.prices().stream().map(FacetCount::value).toList());
+        Assertions.assertEquals(2, facets.years().size());
+    }
+
+    @DisplayName("Price buckets")
+    @Test
+    void testPriceBucket() {
+        Assertions.assertEquals("0-10", FacetIndex.priceBucket(new BigDecimal("9.99")));
+        Assertions.assertEquals("10-25", FacetIndex.priceBucket(new BigDecimal("10.00")));
+        Assertions.assertEquals("100+", FacetIndex.priceBucket(new BigDecimal("150")));
+    }
+
+    @DisplayName("Facets follow genre changes and deletes")
+    @Test
+    void testCount_When_Changed_Should_reflect_Changes() {
+        when(booksGenresRepository.findGenreIdsByBookId(dune.getId())).thenReturn(List.of(classicId, fantasyId));
+        facetIndex.onBookGenresChanged(new BookGenresChangedEvent(dune.getId()));
+        facetIndex.onGenreSaved(new GenreSavedEvent(fantasyId, "High Fantasy", false));
+
+        SearchFacets facets = facetIndex.count(List.of(hobbit.getId(), silmarillion.getId(), dune.getId()));
+        Assertions.assertEquals(new FacetCount(fantasyId.toString(), "High Fantasy", 3), facets.genres().get(0));
+
+        facetIndex.removeAuthor(tolkienId);
+        facets = facetIndex.count(List.of(hobbit.getId(), silmarillion.getId(), dune.getId()));
+        Assertions.assertEquals(1, facets.authors().size());
+        Assertions.assertEquals(1, facets.genres().get(0).count());
+    }
+
+    private static BookView book(BigDecimal price, int year, UUID authorId, String authorName) {
+        return new BookView(UUID.randomUUID(), "Book", null, null, "1234567891234", price, LocalDate.of(year, 1, 1), authorId, authorName);
+    }
+
+}
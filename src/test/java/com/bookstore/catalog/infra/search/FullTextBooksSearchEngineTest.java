@@ -0,0 +1,98 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.books.BooksViewRepository;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Full text search engine Test")
+public class FullTextBooksSearchEngineTest {
+
+    private BooksViewRepository booksViewRepository;
+    private FullTextBooksSearchEngine engine;
+
+    private BookView dune;
+
+    @BeforeEach
+    void setup() {
+        dune = new BookView(UUID.randomUUID(), "Dune", null, null, "9780441172719", new BigDecimal("10.0"), LocalDate.now(),
+                UUID.randomUUID(), "Frank Herbert");
+
+        booksViewRepository = Mockito.mock(BooksViewRepository.class);
+        engine = new FullTextBooksSearchEngine(booksViewRepository);
+    }
+
+    @DisplayName("Every term is matched as a prefix")
+    @Test
+    void testToTsQuery_Should_match_EveryTermAsPrefix() {
+        Assertions.assertEquals("frank:* & herbert:*", FullTextBooksSearchEngine.toTsQuery("Frank  HERBERT"));
+        Assertions.assertEquals("ação:* & aventura:*", FullTextBooksSearchEngine.toTsQuery("Ação Aventura"));
+        Assertions.assertEquals("978:* & 0:* & 441:*", FullTextBooksSearchEngine.toTsQuery("978-0-441"));
+    }
+
+    @DisplayName("Tsquery operators in the input are dropped")
+    @Test
+    void testToTsQuery_When_Operators_Should_drop_Them() {
+        Assertions.assertEquals("o:* & neil:* & dune:*", FullTextBooksSearchEngine.toTsQuery("o'neil & (dune)"));
+        Assertions.assertEquals("dune:* & messiah:*", FullTextBooksSearchEngine.toTsQuery("dune:* | !messiah <-> \\"));
+        Assertions.assertEquals("", FullTextBooksSearchEngine.toTsQuery(" & | ! ( ) :* '"));
+    }
+
+    @DisplayName("Search returns the page with its total")
+    @Test
+    void testSearch_Should_return_PageWithTotal() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(booksViewRepository.fullTextSearch("dune:*", pageable)).thenReturn(new PageImpl<>(List.of(dune), pageable, 1));
+
+        Page<BookResponse> result = engine.search("Dune", pageable);
+
+        Assertions.assertEquals(1, result.getTotalElements());
+        Assertions.assertEquals(dune.getId(), result.getContent().get(0).id());
+        verify(booksViewRepository, never()).fullTextSearchSlice(anyString(), any());
+    }
+
+    @DisplayName("Slice search skips the count")
+    @Test
+    void testSearchSlice_Should_not_Count() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(booksViewRepository.fullTextSearchSlice("dune:*", pageable)).thenReturn(new SliceImpl<>(List.of(dune), pageable, true));
+
+        Slice<BookResponse> result = engine.searchSlice("dune", pageable);
+
+        Assertions.assertFalse(result instanceof Page<?>);
+        Assertions.assertTrue(result.hasNext());
+        Assertions.assertEquals(dune.getId(), result.getContent().get(0).id());
+        verify(booksViewRepository, never()).fullTextSearch(anyString(), any());
+    }
+
+    @DisplayName("Queries without terms never reach the database")
+    @Test
+    void testSearch_When_NoTerms_Should_return_Empty() {
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        Assertions.assertTrue(engine.search("&|!", pageable).isEmpty());
+        Assertions.assertFalse(engine.searchSlice("  ", pageable).hasNext());
+        Mockito.verifyNoInteractions(booksViewRepository);
+    }
+
+}
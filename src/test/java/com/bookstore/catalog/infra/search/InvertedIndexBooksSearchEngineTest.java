@@ -0,0 +1,140 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.application.repositories.genres.BooksGenresRepository;
+import com.bookstore.catalog.application.repositories.genres.GenresRepository;
+import com.bookstore.catalog.domain.dtos.FacetedPage;
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Inverted index search engine Test")
+public class InvertedIndexBooksSearchEngineTest {
+
+    private final UUID tolkienId = UUID.randomUUID();
+
+    private InvertedIndexBooksSearchEngine engine;
+
+    private BookView hobbit;
+    private BookView silmarillion;
+    private BookView dune;
+
+    @BeforeEach
+    void setup() {
+        UUID herbertId = UUID.randomUUID();
+
+        hobbit = book("The Hobbit", "9788595084742", tolkienId, "J.R.R. Tolkien");
+        silmarillion = book("The Silmarillion", "9788595084759", tolkienId, "J.R.R. Tolkien");
+        dune = book("Dune", "9780441172719", herbertId, "Frank Herbert");
+
+        FacetIndex facetIndex = new FacetIndex(Mockito.mock(BooksGenresRepository.class), Mockito.mock(GenresRepository.class));
+        facetIndex.load(List.of(hobbit, silmarillion, dune));
+
+        engine = new InvertedIndexBooksSearchEngine(facetIndex);
+        engine.load(List.of(hobbit, silmarillion, dune));
+    }
+
+    @DisplayName("Search by title prefix")
+    @Test
+    void testSearch_When_TitlePrefix_Should_return_MatchingBooks() {
+        Page<BookResponse> result = engine.search("hobb", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, result.getTotalElements());
+        Assertions.assertEquals(hobbit.getId(), result.getContent().get(0).id());
+    }
+
+    @DisplayName("Search ranks title matches before author matches")
+    @Test
+    void testSearch_When_TermInTitleAndAuthor_Should_rank_TitleFirst() {
+        engine.put(book("Frank", "9780000000001", UUID.randomUUID(), "Someone Else"));
+
+        Page<BookResponse> result = engine.search("frank", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, result.getTotalElements());
+        Assertions.assertEquals("Frank", result.getContent().get(0).name());
+        Assertions.assertEquals(dune.getId(), result.getContent().get(1).id());
+    }
+
+    @DisplayName("Search requires every term to match")
+    @Test
+    void testSearch_When_MultipleTerms_Should_return_Intersection() {
+        Page<BookResponse> result = engine.search("tolkien silmarillion", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, result.getTotalElements());
+        Assertions.assertEquals(silmarillion.getId(), result.getContent().get(0).id());
+    }
+
+    @DisplayName("Search by hyphenated ISBN")
+    @Test
+    void testSearch_When_Isbn_Should_return_Book() {
+        Page<BookResponse> result = engine.search("978-0-441-17271-9", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, result.getTotalElements());
+        Assertions.assertEquals(dune.getId(), result.getContent().get(0).id());
+    }
+
+    @DisplayName("Search is paginated")
+    @Test
+    void testSearch_When_Paginated_Should_return_RequestedPage() {
+        Page<BookResponse> result = engine.search("tolkien", PageRequest.of(1, 1));
+
+        Assertions.assertEquals(2, result.getTotalElements());
+        Assertions.assertEquals(1, result.getContent().size());
+    }
+
+    @DisplayName("Search returns facets of the whole result set")
+    @Test
+    void testSearch_Should_return_Facets() {
+        Page<BookResponse> result = engine.search("tolkien", PageRequest.of(0, 1));
+
+        var facets = ((FacetedPage<BookResponse>) result).getFacets();
+        Assertions.assertEquals(1, facets.authors().size());
+        Assertions.assertEquals(2, facets.authors().get(0).count());
+    }
+
+    @DisplayName("Index follows updates, renames and deletes")
+    @Test
+    void testIndex_When_Changed_Should_reflect_Changes() {
+        engine.put(book(hobbit.getId(), "There and Back Again", hobbit.getIsbn(), tolkienId, "J.R.R. Tolkien"));
+        Assertions.assertEquals(0, engine.search("hobbit", PageRequest.of(0, 10)).getTotalElements());
+        Assertions.assertEquals(1, engine.search("back again", PageRequest.of(0, 10)).getTotalElements());
+
+        engine.renameAuthor(tolkienId, "John Ronald Reuel Tolkien");
+        Assertions.assertEquals(2, engine.search("reuel", PageRequest.of(0, 10)).getTotalElements());
+
+        engine.remove(dune.getId());
+        Assertions.assertEquals(0, engine.search("dune", PageRequest.of(0, 10)).getTotalElements());
+
+        engine.removeAuthor(tolkienId);
+        Assertions.assertEquals(0, engine.size());
+    }
+
+    @DisplayName("Load replaces the whole index")
+    @Test
+    void testLoad_Should_replace_PreviousBooks() {
+        engine.load(List.of(dune));
+
+        Assertions.assertEquals(1, engine.size());
+        Assertions.assertEquals(0, engine.search("tolkien", PageRequest.of(0, 10)).getTotalElements());
+        Assertions.assertEquals(1, engine.search("dune", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    private static BookView book(String name, String isbn, UUID authorId, String authorName) {
+        return book(UUID.randomUUID(), name, isbn, authorId, authorName);
+    }
+
+    private static BookView book(UUID id, String name, String isbn, UUID authorId, String authorName) {
+        return new BookView(id, name, null, null, isbn, new BigDecimal("10.0"), LocalDate.now(), authorId, authorName);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.domain.dtos.books.SuggestionResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Suggestion trie Test")
+public class SuggestionTrieTest {
+
+    private final UUID tolkienId = UUID.randomUUID();
+    private final UUID herbertId = UUID.randomUUID();
+
+    private SuggestionTrie trie;
+
+    private BookView hobbit;
+    private BookView silmarillion;
+
+    @BeforeEach
+    void setup() {
+        hobbit = book("The Hobbit", LocalDate.of(1937, 9, 21), tolkienId, "J.R.R. Tolkien");
+        silmarillion = book("The Silmarillion", LocalDate.of(1977, 9, 15), tolkienId, "J.R.R. Tolkien");
+
+        trie = new SuggestionTrie();
+        trie.load(List.of(
+                hobbit,
+                silmarillion,
+                book("Dune", LocalDate.of(1965, 8, 1), herbertId, "Frank Herbert")
+        ));
+    }
+
+    @DisplayName("Suggest completes titles from any word")
+    @Test
+    void testSuggest_When_WordPrefix_Should_return_Title() {
+        List<SuggestionResponse> suggestions = trie.suggest("hob", 10);
+
+        Assertions.assertEquals(1, suggestions.size());
+        Assertions.assertEquals("The Hobbit", suggestions.get(0).text());
+        Assertions.assertEquals(hobbit.getId(), suggestions.get(0).id());
+    }
+
+    @DisplayName("Suggest orders completions by recency")
+    @Test
+    void testSuggest_When_SharedPrefix_Should_order_ByPublishDate() {
+        List<SuggestionResponse> suggestions = trie.suggest("the", 10);
+
+        Assertions.assertEquals(List.of("The Silmarillion", "The Hobbit"), suggestions.stream().map(SuggestionResponse::text).toList());
+    }
+
+    @DisplayName("Suggest includes authors and honours the limit")
+    @Test
+    void testSuggest_When_AuthorPrefix_Should_return_Author() {
+        List<SuggestionResponse> suggestions = trie.suggest("tolk", 10);
+
+        Assertions.assertEquals(1, suggestions.size());
+        Assertions.assertEquals("author", suggestions.get(0).type());
+        Assertions.assertEquals(tolkienId, suggestions.get(0).id());
+
+        Assertions.assertEquals(1, trie.suggest("t", 1).size());
+    }
+
+    @DisplayName("Suggest follows updates, renames and deletes")
+    @Test
+    void testSuggest_When_Changed_Should_reflect_Changes() {
+        trie.put(book(hobbit.getId(), "There and Back Again", hobbit.getPublishDate(), tolkienId, "J.R.R. Tolkien"));
+        Assertions.assertTrue(trie.suggest("hob", 10).isEmpty());
+        Assertions.assertEquals(1, trie.suggest("back ag", 10).size());
+
+        trie.renameAuthor(tolkienId, "John Ronald Reuel Tolkien");
+        Assertions.assertEquals("John Ronald Reuel Tolkien", trie.suggest("reuel", 10).get(0).text());
+
+        trie.remove(silmarillion.getId());
+        Assertions.assertTrue(trie.suggest("silm", 10).isEmpty());
+
+        trie.removeAuthor(herbertId);
+        Assertions.assertTrue(trie.suggest("dune", 10).isEmpty());
+        Assertions.assertTrue(trie.suggest("frank", 10).isEmpty());
+    }
+
+    private static BookView book(String name, LocalDate publishDate, UUID authorId, String authorName) {
+        return book(UUID.randomUUID(), name, publishDate, authorId, authorName);
+    }
+
+    private static BookView book(UUID id, String name, LocalDate publishDate, UUID authorId, String authorName) {
+        return new BookView(id, name, null, null, "1234567891234", new BigDecimal("10.0"), publishDate, authorId, authorName);
+    }
+
+}
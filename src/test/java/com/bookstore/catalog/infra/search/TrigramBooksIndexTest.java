@@ -0,0 +1,80 @@
+package com.bookstore.catalog.infra.search;
+
+import com.bookstore.catalog.domain.dtos.books.BookResponse;
+import com.bookstore.catalog.domain.entities.books.BookView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Trigram books index Test")
+public class TrigramBooksIndexTest {
+
+    private TrigramBooksIndex index;
+
+    private BookView hobbit;
+    private BookView dune;
+
+    @BeforeEach
+    void setup() {
+        UUID tolkienId = UUID.randomUUID();
+
+        hobbit = book("The Hobbit", tolkienId, "J.R.R. Tolkien");
+        dune = book("Dune", UUID.randomUUID(), "Frank Herbert");
+
+        index = new TrigramBooksIndex();
+        index.load(List.of(hobbit, book("The Silmarillion", tolkienId, "J.R.R. Tolkien"), dune));
+    }
+
+    @DisplayName("Search tolerates a missing letter")
+    @Test
+    void testSearch_When_MissingLetter_Should_return_Book() {
+        Page<BookResponse> result = index.search("hobit", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, result.getTotalElements());
+        Assertions.assertEquals(hobbit.getId(), result.getContent().get(0).id());
+    }
+
+    @DisplayName("Search tolerates swapped and wrong letters")
+    @Test
+    void testSearch_When_Misspelled_Should_return_Book() {
+        Assertions.assertEquals(dune.getId(), index.search("frnak herbret", PageRequest.of(0, 10)).getContent().get(0).id());
+        Assertions.assertEquals(hobbit.getId(), index.search("the hobbot", PageRequest.of(0, 10)).getContent().get(0).id());
+    }
+
+    @DisplayName("Search drops books beyond the edit budget")
+    @Test
+    void testSearch_When_TooManyEdits_Should_return_Empty() {
+        Assertions.assertEquals(0, index.search("dxxe", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @DisplayName("Load replaces the whole index")
+    @Test
+    void testLoad_Should_replace_PreviousBooks() {
+        index.load(List.of(dune));
+
+        Assertions.assertEquals(0, index.search("hobit", PageRequest.of(0, 10)).getTotalElements());
+        Assertions.assertEquals(dune.getId(), index.search("frnak herbret", PageRequest.of(0, 10)).getContent().get(0).id());
+    }
+
+    @DisplayName("Bounded Levenshtein stops past the budget")
+    @Test
+    void testBoundedLevenshtein() {
+        Assertions.assertEquals(0, TrigramBooksIndex.boundedLevenshtein("hobbit", "hobbit", 2));
+        Assertions.assertEquals(1, TrigramBooksIndex.boundedLevenshtein("hobit", "hobbit", 2));
+        Assertions.assertEquals(1, TrigramBooksIndex.boundedLevenshtein("hobbti", "hobbit", 2));
+        Assertions.assertEquals(2, TrigramBooksIndex.boundedLevenshtein("hxbbxt", "hobbit", 1));
+    }
+
+    private static BookView book(String name, UUID authorId, String authorName) {
+        return new BookView(UUID.randomUUID(), name, null, null, "1234567891234", new BigDecimal("10.0"), LocalDate.now(), authorId, authorName);
+    }
+
+}